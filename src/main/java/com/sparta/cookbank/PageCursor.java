@@ -0,0 +1,37 @@
+package com.sparta.cookbank;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 커서 페이지네이션용 불투명 토큰 (마지막 정렬 키들을 인코딩)
+public class PageCursor {
+    private static final String SEPARATOR = ":";
+
+    private PageCursor() { }
+
+    public static String encode(long... keys) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < keys.length; i++) {
+            if (i > 0) sb.append(SEPARATOR);
+            sb.append(keys[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static long[] decode(String cursor, int keyCount) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR);
+            if (parts.length != keyCount) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            long[] keys = new long[keyCount];
+            for (int i = 0; i < keyCount; i++) {
+                keys[i] = Long.parseLong(parts[i]);
+            }
+            return keys;
+        } catch (IllegalArgumentException e) { // NumberFormatException 포함
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
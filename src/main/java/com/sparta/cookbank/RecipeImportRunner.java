@@ -0,0 +1,50 @@
+package com.sparta.cookbank;
+
+import com.sparta.cookbank.domain.recipe.dto.RecipeImportResponseDto;
+import com.sparta.cookbank.service.RecipeImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// 레시피 JSON 파일 일괄 등록 (CLI)
+// ex) java -jar cookbank.jar --recipe.import.file=/data/recipes.json --recipe.import.exit=true
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "recipe.import.file")
+public class RecipeImportRunner implements ApplicationRunner {
+
+    private final RecipeImportService recipeImportService;
+    private final ConfigurableApplicationContext applicationContext;
+
+    @Value("${recipe.import.file}")
+    private String file;
+
+    // 등록이 끝나면 서버를 띄워 두지 않고 종료
+    @Value("${recipe.import.exit:false}")
+    private boolean exit;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        RecipeImportResponseDto result;
+        try (InputStream inputStream = Files.newInputStream(Path.of(file))) {
+            result = recipeImportService.importRecipes(inputStream);
+        }
+        for (String error : result.getErrors()) {
+            log.warn("레시피 일괄 등록 제외: {}", error);
+        }
+        if (exit) {
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        }
+    }
+}
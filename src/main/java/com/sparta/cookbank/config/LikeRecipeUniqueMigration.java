@@ -0,0 +1,43 @@
+package com.sparta.cookbank.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+
+// like_recipe (member_id, recipe_id) 유니크 키를 추가하는 1회성 마이그레이션
+// 예전 조회 후 insert 방식에서 생긴 중복 행이 있으면 ddl-auto=update 의 ALTER 가 실패하고 로그만 남긴 채 넘어가서
+// 북마크 반영 upsert(on duplicate key update) 가 중복을 계속 만든다. 중복은 가장 먼저 만든 행(id 가 가장 작은 행)만 남긴다.
+// 이미 키가 있거나 테이블이 없으면 아무것도 하지 않는다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeRecipeUniqueMigration {
+
+    private static final String KEY_NAME = "uk_like_recipe_member_recipe";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void migrate() {
+        Integer tables = jdbcTemplate.queryForObject(
+                "select count(*) from information_schema.tables " +
+                        "where table_schema = database() and table_name = 'like_recipe'", Integer.class);
+        if (tables == null || tables == 0) {
+            return;
+        }
+        Integer keys = jdbcTemplate.queryForObject(
+                "select count(*) from information_schema.statistics " +
+                        "where table_schema = database() and table_name = 'like_recipe' and index_name = ?", Integer.class, KEY_NAME);
+        if (keys != null && keys > 0) {
+            return;
+        }
+
+        int removed = jdbcTemplate.update("delete l1 from like_recipe l1 join like_recipe l2 " +
+                "on l1.member_id = l2.member_id and l1.recipe_id = l2.recipe_id and l1.id > l2.id");
+        jdbcTemplate.execute("alter table like_recipe add constraint " + KEY_NAME + " unique (member_id, recipe_id)");
+        log.info("like_recipe 유니크 키 {} 추가 (중복 행 {}개 삭제)", KEY_NAME, removed);
+    }
+}
@@ -0,0 +1,88 @@
+package com.sparta.cookbank.config;
+
+import com.sparta.cookbank.domain.myingredients.MyIngredientDate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.time.LocalDate;
+import java.util.*;
+
+// my_ingredients.in_date / exp_date 를 문자열(varchar) 컬럼에서 DATE 컬럼으로 바꾸는 1회성 마이그레이션
+// (ddl-auto=update 는 컬럼 타입을 바꾸지 않음). 이미 DATE 이거나 테이블이 없으면 아무것도 하지 않는다.
+// 날짜 해석은 MySQL str_to_date 대신 여기서 한다. (STRICT 모드에서는 잘못된 값이 UPDATE 전체를 실패시킴)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MyIngredientsDateMigration {
+
+    private static final List<String> COLUMNS = List.of("in_date", "exp_date");
+    // 날짜로 읽을 수 없는 값이 있던 행 (원래 값 그대로, 확인 후 직접 되돌리거나 지움)
+    private static final String INVALID_TABLE = "my_ingredients_invalid_date";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void migrate() {
+        List<String> columns = new ArrayList<>();
+        for (String column : COLUMNS) {
+            String dataType = jdbcTemplate.query(
+                    "select data_type from information_schema.columns " +
+                            "where table_schema = database() and table_name = 'my_ingredients' and column_name = ?",
+                    rs -> rs.next() ? rs.getString(1) : null, column);
+            if (dataType != null && !"date".equalsIgnoreCase(dataType)) {
+                columns.add(column);
+            }
+        }
+        if (columns.isEmpty()) {
+            return;
+        }
+
+        // yyyy-MM-dd 로 맞출 값과, 날짜로 읽을 수 없는 값이 있는 행 id
+        Set<Long> invalidIds = new TreeSet<>();
+        Map<String, List<Object[]>> updates = new LinkedHashMap<>();
+        for (String column : columns) {
+            List<Object[]> columnUpdates = new ArrayList<>();
+            jdbcTemplate.query("select id, " + column + " from my_ingredients", rs -> {
+                long id = rs.getLong(1);
+                String value = rs.getString(2);
+                String normalized = normalize(value);
+                if (normalized == null) {
+                    invalidIds.add(id);
+                } else if (!normalized.equals(value)) {
+                    columnUpdates.add(new Object[]{normalized, id});
+                }
+            });
+            updates.put(column, columnUpdates);
+        }
+
+        // 읽을 수 없는 행은 날짜를 지어내지 않고 (오늘 날짜로 바꾸면 D-Day 알림이 잘못 감) 원래 값 그대로 따로 옮겨 둔다.
+        if (!invalidIds.isEmpty()) {
+            List<Object[]> ids = new ArrayList<>();
+            for (Long id : invalidIds) {
+                ids.add(new Object[]{id});
+            }
+            jdbcTemplate.execute("create table if not exists " + INVALID_TABLE + " as select * from my_ingredients where 1 = 0");
+            jdbcTemplate.batchUpdate("insert into " + INVALID_TABLE + " select * from my_ingredients where id = ?", ids);
+            jdbcTemplate.batchUpdate("delete from my_ingredients where id = ?", ids);
+            log.warn("my_ingredients 날짜 형식이 아닌 행 {}개를 {} 로 옮김 (id: {})", invalidIds.size(), INVALID_TABLE, invalidIds);
+        }
+
+        for (Map.Entry<String, List<Object[]>> columnUpdates : updates.entrySet()) {
+            String column = columnUpdates.getKey();
+            if (!columnUpdates.getValue().isEmpty()) {
+                jdbcTemplate.batchUpdate("update my_ingredients set " + column + " = ? where id = ?", columnUpdates.getValue());
+            }
+            jdbcTemplate.execute("alter table my_ingredients modify " + column + " date not null");
+            log.info("my_ingredients.{} 컬럼을 DATE 로 변경 (형식을 맞춘 행 {}개)", column, columnUpdates.getValue().size());
+        }
+    }
+
+    // yyyy-MM-dd 로 맞춘 값, 날짜로 읽을 수 없으면 null ('2022-9-1' 허용 규칙은 요청 검사와 같음)
+    static String normalize(String value) {
+        LocalDate date = MyIngredientDate.parse(value);
+        return date == null ? null : date.toString();
+    }
+}
@@ -8,6 +8,7 @@ import com.sparta.cookbank.repository.MemberRepository;
 import com.sparta.cookbank.security.SecurityUtil;
 import com.sparta.cookbank.security.TokenProvider;
 import com.sparta.cookbank.service.ChatService;
+import com.sparta.cookbank.service.ExpiryNotifier;
 import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,8 +17,11 @@ import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.stereotype.Component;
 
+import java.util.Collections;
 import java.util.Optional;
 
 @Slf4j
@@ -25,6 +29,8 @@ import java.util.Optional;
 @Component
 public class StompHandler implements ChannelInterceptor {
 
+    public static final String USER_DESTINATION_PREFIX = "/user/";
+
     private final TokenProvider tokenProvider;
     private final ChatRoomRepository chatRoomRepository;
     private final ChatService chatService;
@@ -32,8 +38,19 @@ public class StompHandler implements ChannelInterceptor {
     // websocket을 통해 들어온 요청이 처리 되기전 실행된다.
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
-        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
-        if (StompCommand.SUBSCRIBE == accessor.getCommand()) { // 채팅룸 구독요청
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (StompCommand.CONNECT == accessor.getCommand()) {
+            // 회원 id 를 세션 Principal 로 등록 (유통기한 알림은 /user/queue/expiry 로 본인에게만 전달)
+            Long memberId = -1L;
+            if(accessor.getNativeHeader("Authorization")!=null){
+                String token = accessor.getNativeHeader("Authorization").get(0);
+                if(token != null) token = token.substring(7);
+                memberId = tokenProvider.getMemberId(token);
+            }
+            if (memberId != -1L) {
+                accessor.setUser(new UsernamePasswordAuthenticationToken(String.valueOf(memberId), null, Collections.emptyList()));
+            }
+        } else if (StompCommand.SUBSCRIBE == accessor.getCommand()) { // 채팅룸 구독요청
             //토큰 까기
             Long memberId = -1L;
             if(accessor.getNativeHeader("Authorization")!=null){
@@ -42,8 +59,21 @@ public class StompHandler implements ChannelInterceptor {
                 if(token != null) token = token.substring(7);
                 memberId = tokenProvider.getMemberId(token);
             }
+            String destination = Optional.ofNullable((String) message.getHeaders().get("simpDestination")).orElse("InvalidRoomId");
+            // SimpleBroker 는 구독 destination 을 패턴으로 매칭하므로 와일드카드 구독은 받지 않는다.
+            if (destination.indexOf('*') != -1 || destination.indexOf('?') != -1 || destination.indexOf('{') != -1) {
+                throw new IllegalArgumentException("구독 경로에 와일드카드를 사용할 수 없습니다.");
+            }
+            // 개인 알림(/user/queue/..)은 세션별 경로로 바뀌어 전달되므로 채팅방 입장 처리는 하지 않는다.
+            if (destination.startsWith(USER_DESTINATION_PREFIX)) {
+                return message;
+            }
+            // 세션별 경로를 직접 구독하는 것은 막는다.
+            if (destination.startsWith(ExpiryNotifier.QUEUE_PREFIX)) {
+                throw new IllegalArgumentException("개인 알림은 /user 경로로만 구독할 수 있습니다.");
+            }
             // header정보에서 구독 destination정보를 얻고, roomId를 추출한다.
-            String roomId = chatService.getRoomId(Optional.ofNullable((String) message.getHeaders().get("simpDestination")).orElse("InvalidRoomId"));
+            String roomId = chatService.getRoomId(destination);
             // 채팅방에 들어온 클라이언트 sessionId를 roomId와 맵핑해 놓는다.(나중에 특정 세션이 어떤 채팅방에 들어가 있는지 알기 위함)
             String sessionId = (String) message.getHeaders().get("simpSessionId");
             chatRoomRepository.setUserEnterInfo(sessionId, roomId);
@@ -66,6 +96,10 @@ public class StompHandler implements ChannelInterceptor {
             // 연결이 종료된 클라이언트 sesssionId로 채팅방 id를 얻는다.
             String sessionId = (String) message.getHeaders().get("simpSessionId");
             String roomId = chatRoomRepository.getUserEnterRoomId(sessionId);
+            // 채팅방에 들어가지 않은 세션 (유통기한 알림만 구독)
+            if (roomId == null) {
+                return message;
+            }
             // 채팅방의 인원수를 -1한다.
             chatRoomRepository.minusUserCount(roomId);
             Long viewers = chatService.PlusMinusViewrs(roomId,-1L);
@@ -1,5 +1,6 @@
 package com.sparta.cookbank.config;
 
+import com.sparta.cookbank.service.ExpiryNotifier;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
@@ -26,7 +27,9 @@ public class StompWebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         registry.setApplicationDestinationPrefixes("/api/pub");
-        registry.enableSimpleBroker("/api/sub");
+        registry.enableSimpleBroker("/api/sub", ExpiryNotifier.QUEUE_PREFIX);
+        // 개인 알림: /user/queue/.. 구독은 세션별 경로로 바뀌고, CONNECT 때 등록한 회원 id 로 보낸다.
+        registry.setUserDestinationPrefix("/user");
     }
 
     // 스톰프 인터셉터 추가
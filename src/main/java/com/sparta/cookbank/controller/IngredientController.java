@@ -2,6 +2,7 @@ package com.sparta.cookbank.controller;
 
 import com.sparta.cookbank.ResponseDto;
 import com.sparta.cookbank.domain.ingredient.dto.IngredientsRatioResponseDto;
+import com.sparta.cookbank.domain.myingredients.dto.IngredientListRequestDto;
 import com.sparta.cookbank.domain.myingredients.dto.IngredientRequestDto;
 import com.sparta.cookbank.service.IngredientService;
 import lombok.RequiredArgsConstructor;
@@ -10,7 +11,6 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.web.bind.annotation.*;
 
 import javax.servlet.http.HttpServletRequest;
-import java.text.ParseException;
 
 @RequiredArgsConstructor
 @RestController
@@ -32,28 +32,33 @@ public class IngredientController {
     }
 
     @PostMapping("/api/ingredient")  // 식재료 작성
-    public ResponseDto<?> saveMyIngredient(@RequestBody IngredientRequestDto requestDto, HttpServletRequest request) throws ParseException {
+    public ResponseDto<?> saveMyIngredient(@RequestBody IngredientRequestDto requestDto, HttpServletRequest request) {
         return ingredientService.saveMyIngredient(requestDto,request);
     }
 
+    @PostMapping("/api/ingredients") // 식재료 여러 개 한 번에 작성
+    public ResponseDto<?> saveMyIngredients(@RequestBody IngredientListRequestDto requestDto, HttpServletRequest request) {
+        return ingredientService.saveMyIngredients(requestDto,request);
+    }
+
     @GetMapping("/api/ingredient") //식재료 전체 조회회
-    public ResponseDto<?> getAllMyIngredient(HttpServletRequest request) throws ParseException {
+    public ResponseDto<?> getAllMyIngredient(HttpServletRequest request) {
         return ingredientService.getAllMyIngredient(request);
     }
 
     @GetMapping("/api/ingredients") // 저장소별 식재료 조회
-    public ResponseDto<?> getMyIngredient(@RequestParam("storage") String storage, HttpServletRequest request) throws ParseException {
+    public ResponseDto<?> getMyIngredient(@RequestParam("storage") String storage, HttpServletRequest request) {
         return ingredientService.getMyIngredient(storage,request);
     }
 
     @GetMapping("/api/ingredients/detail") // 카테고리별 식재료 조회
-    public ResponseDto<?> getMyCategoryIngredient(@RequestParam("category") String category,HttpServletRequest request) throws ParseException {
+    public ResponseDto<?> getMyCategoryIngredient(@RequestParam("category") String category,HttpServletRequest request) {
         return ingredientService.getMyCategoryIngredient(category,request);
     }
 
 
     @GetMapping("/api/ingredients/warning") // 임박 식재료 조회
-    public ResponseDto<?> getMyWarningIngredient(HttpServletRequest request) throws ParseException {
+    public ResponseDto<?> getMyWarningIngredient(HttpServletRequest request) {
         return ingredientService.getMyWarningIngredient(request);
     }
 
@@ -2,15 +2,22 @@ package com.sparta.cookbank.controller;
 
 import com.sparta.cookbank.ResponseDto;
 import com.sparta.cookbank.domain.recipe.dto.*;
+import com.sparta.cookbank.service.RecipeImportService;
 import com.sparta.cookbank.service.RecipeService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
 
 @RestController
 @RequiredArgsConstructor
 public class RecipeController {
     private final RecipeService recipeService;
+    private final RecipeImportService recipeImportService;
 
     @PostMapping("/api/recipes/recommend") // 추천 레시피 조회
     public ResponseDto<?> getRecommendRecipe(@RequestBody RecipeRecommendRequestDto requestDto) {
@@ -19,23 +26,41 @@ public class RecipeController {
     }
 
     @GetMapping("/api/recipe/{id}") // 레시피 상세 조회
-    public ResponseDto<?> getDetailRecipe(@PathVariable Long id) {
+    public ResponseDto<?> getDetailRecipe(@PathVariable Long id, WebRequest webRequest) {
         RecipeDetailResponseDto detailResponseDto = recipeService.getDetailRecipe(id);
+        // If-None-Match가 현재 버전과 같으면 본문 없이 304
+        if (webRequest.checkNotModified(detailResponseDto.getEtag())) {
+            return null;
+        }
         return ResponseDto.success(detailResponseDto,"레시피 제공에 성공하였습니다.");
     }
 
     @GetMapping("/api/recipes") // 레시피 전체 조회
-    public ResponseDto<?> getAllRecipe(Pageable pageable) {
-        RecipeResponseDto recipeResponseDtoPage = recipeService.getAllRecipe(pageable);
+    public ResponseDto<?> getAllRecipe(Pageable pageable, @RequestParam(required = false) String after,
+                                       @RequestParam(defaultValue = "true") boolean count) {
+        RecipeResponseDto recipeResponseDtoPage = recipeService.getAllRecipe(pageable, after, count);
         return ResponseDto.success(recipeResponseDtoPage,"전체레시피 제공에 성공하였습니다.");
     }
 
     @PostMapping("/api/recipes/search") // 레시피 검색
-    public ResponseDto<?> searchRecipe(@RequestBody RecipeSearchRequestDto searchRequestDto, Pageable pageable) {
-        RecipeSearchResponseDto ResponseSearchDtoPage = recipeService.searchRecipe(searchRequestDto,pageable);
+    public ResponseDto<?> searchRecipe(@RequestBody RecipeSearchRequestDto searchRequestDto, Pageable pageable,
+                                       @RequestParam(required = false) String after) {
+        RecipeSearchResponseDto ResponseSearchDtoPage = recipeService.searchRecipe(searchRequestDto,pageable,after);
         return ResponseDto.success(ResponseSearchDtoPage,"레시피 검색에 성공하였습니다.");
     }
 
+    @GetMapping("/api/recipes/trending") // 인기 레시피 조회
+    public ResponseDto<?> getTrendingRecipe(@RequestParam(defaultValue = "10") int size) {
+        RecipeResponseDto recipeResponseDto = recipeService.getTrendingRecipe(size);
+        return ResponseDto.success(recipeResponseDto,"인기레시피 제공에 성공하였습니다.");
+    }
+
+    @GetMapping("/api/recipe/{id}/also-cooked") // 함께 요리한 레시피 조회
+    public ResponseDto<?> getAlsoCookedRecipe(@PathVariable Long id, @RequestParam(defaultValue = "10") int size) {
+        RecipeResponseDto recipeResponseDto = recipeService.getAlsoCookedRecipe(id, size);
+        return ResponseDto.success(recipeResponseDto,"함께 요리한 레시피 제공에 성공하였습니다.");
+    }
+
     @PostMapping("/api/recipe/like") // 북마크 On
     public ResponseDto<?> likeRecipe(@RequestParam Long id) {
         recipeService.likeRecipe(id);
@@ -50,8 +75,8 @@ public class RecipeController {
     }
 
     @GetMapping("/api/my/bookmark") // 북마크한 레시피 조회
-    public ResponseDto<?> getBookmark(Pageable pageable){
-        RecipeBookmarkResponseDto recipeResponseDto = recipeService.getBookmark(pageable);
+    public ResponseDto<?> getBookmark(Pageable pageable, @RequestParam(required = false) String after){
+        RecipeBookmarkResponseDto recipeResponseDto = recipeService.getBookmark(pageable, after);
 
         return ResponseDto.success(recipeResponseDto, "성공적으로 북마크한 레시피를 가져왔습니다.");
     }
@@ -65,9 +90,35 @@ public class RecipeController {
 
     @PostMapping("/api/recipes/category") // 레시피 종류별 요리방법별 분류
     public ResponseDto<?> getRecipeByCategory(@RequestBody RecipeByCategoryRequestDto requestDto,
-                                              Pageable pageable) {
-        RecipeResponseDto responseDto = recipeService.getRecipeByCategory(requestDto, pageable);
+                                              Pageable pageable,
+                                              @RequestParam(required = false) String after,
+                                              @RequestParam(defaultValue = "true") boolean count) {
+        RecipeResponseDto responseDto = recipeService.getRecipeByCategory(requestDto, pageable, after, count);
 
         return ResponseDto.success(responseDto, "카테고리별 레시피 제공에 성공하였습니다.");
     }
+
+    @PostMapping("/api/recipes/facets") // 레시피 다중 필터 + 필터별 개수
+    public ResponseDto<?> getRecipeByFacet(@RequestBody RecipeFacetRequestDto requestDto, Pageable pageable) {
+        RecipeFacetResponseDto responseDto = recipeService.getRecipeByFacet(requestDto, pageable);
+
+        return ResponseDto.success(responseDto, "필터별 레시피 제공에 성공하였습니다.");
+    }
+
+    @PostMapping("/api/recipes/nutrients") // 영양성분 범위로 레시피 조회
+    public ResponseDto<?> getRecipeByNutrient(@RequestBody RecipeNutrientRequestDto requestDto, Pageable pageable) {
+        RecipeResponseDto responseDto = recipeService.getRecipeByNutrient(requestDto, pageable);
+
+        return ResponseDto.success(responseDto, "영양성분별 레시피 제공에 성공하였습니다.");
+    }
+
+    @PostMapping("/api/recipes/import") // 레시피 일괄 등록/수정 (JSON 파일)
+    public ResponseDto<?> importRecipes(@RequestHeader(value = "X-Import-Token", required = false) String token,
+                                        @RequestPart(value = "file") MultipartFile file) throws IOException {
+        recipeImportService.checkToken(token);
+        try (InputStream inputStream = file.getInputStream()) {
+            RecipeImportResponseDto importResponseDto = recipeImportService.importRecipes(inputStream);
+            return ResponseDto.success(importResponseDto,"레시피 일괄 등록에 성공하였습니다.");
+        }
+    }
 }
@@ -14,6 +14,9 @@ import javax.persistence.*;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_like_recipe_member_recipe", columnNames = {"member_id", "recipe_id"}) // 북마크 반영 upsert 용 (기존 테이블은 LikeRecipeUniqueMigration)
+})
 public class LikeRecipe extends Timestamped{
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
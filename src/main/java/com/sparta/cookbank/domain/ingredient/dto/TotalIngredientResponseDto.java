@@ -15,4 +15,5 @@ public class TotalIngredientResponseDto {
     private int current_page_num;
     private int total_page_num;
     private List<IngredientResponseDto> search_list;
+    private List<IngredientResponseDto> did_you_mean; // 검색 결과가 없을 때만 (오타 교정 추천)
 }
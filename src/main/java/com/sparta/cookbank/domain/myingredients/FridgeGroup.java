@@ -0,0 +1,53 @@
+package com.sparta.cookbank.domain.myingredients;
+
+import com.sparta.cookbank.domain.ingredient.enums.FoodCategory;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+// 냉장고 화면의 재료 분류 (농산물 / 축산물 / 수산물 / 음료류 / 기타)
+public enum FridgeGroup {
+    produce,
+    livestock,
+    marine,
+    drink,
+    etc;
+
+    private static final Map<FoodCategory, FridgeGroup> BY_CATEGORY = new EnumMap<>(FoodCategory.class);
+
+    static {
+        for (FoodCategory category : FoodCategory.values()) {
+            BY_CATEGORY.put(category, etc);
+        }
+        // 농산물
+        put(produce, FoodCategory.전분류, FoodCategory.견과류, FoodCategory.곡류, FoodCategory.과실류,
+                FoodCategory.두류, FoodCategory.버섯류, FoodCategory.채소류);
+        // 축산물
+        put(livestock, FoodCategory.난류, FoodCategory.육류);
+        // 수산물
+        put(marine, FoodCategory.어패류, FoodCategory.해조류);
+        // 음료류
+        put(drink, FoodCategory.음료류, FoodCategory.주류, FoodCategory.차류);
+    }
+
+    // 분류가 없는 재료는 기타
+    public static FridgeGroup of(FoodCategory category) {
+        return category == null ? etc : BY_CATEGORY.get(category);
+    }
+
+    // "produce" 같은 요청 값, 해당 분류가 없으면 null
+    public static FridgeGroup from(String value) {
+        for (FridgeGroup group : values()) {
+            if (group.name().equals(value)) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    private static void put(FridgeGroup group, FoodCategory... categories) {
+        for (FoodCategory category : categories) {
+            BY_CATEGORY.put(category, group);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.sparta.cookbank.domain.myingredients;
+
+import com.sparta.cookbank.domain.Storage;
+import com.sparta.cookbank.domain.ingredient.Ingredient;
+import com.sparta.cookbank.domain.ingredient.enums.FoodCategory;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 냉장고 재료 한 건 (화면에 필요한 재료 정보 + 날짜는 epoch day)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FridgeItem {
+    private Long id; // MyIngredients id
+    private String iconImage;
+    private String markName;
+    private String foodName;
+    private FoodCategory foodCategory;
+    private Storage storage;
+    private long inDate;
+    private long expDate;
+
+    public static FridgeItem of(MyIngredients myIngredients) {
+        Ingredient ingredient = myIngredients.getIngredient();
+        return new FridgeItem(myIngredients.getId(), ingredient.getIconImage(), ingredient.getMarkName(),
+                ingredient.getFoodName(), ingredient.getFoodCategory(), myIngredients.getStorage(),
+                myIngredients.getInDate().toEpochDay(), myIngredients.getExpDate().toEpochDay());
+    }
+
+    // yyyy-MM-dd
+    public String inDateText() {
+        return LocalDate.ofEpochDay(inDate).toString();
+    }
+}
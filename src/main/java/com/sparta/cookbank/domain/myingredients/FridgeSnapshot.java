@@ -0,0 +1,85 @@
+package com.sparta.cookbank.domain.myingredients;
+
+import com.sparta.cookbank.domain.Storage;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.*;
+
+// 회원 냉장고를 한 번 순회해서 만든 보관방법별 / 분류별 / 유통기한별 묶음.
+// 냉장고 API 들은 모두 이 스냅샷에서 골라서 응답을 만든다. (D-day 는 만든 날짜 기준)
+@Getter
+public class FridgeSnapshot {
+
+    // 유통기한이 이 일수 미만으로 남으면 임박 재료
+    public static final int HURRY_DAYS = 5;
+
+    private final LocalDate day;
+    private final List<FridgeItem> items; // 유통기한 오름차순
+    private final Map<Storage, List<FridgeItem>> byStorage;
+    private final Map<FridgeGroup, List<FridgeItem>> byGroup;
+    private final List<FridgeItem> expired;
+    private final List<FridgeItem> inHurry;
+    private final int fineCount;
+
+    private FridgeSnapshot(LocalDate day, List<FridgeItem> items, Map<Storage, List<FridgeItem>> byStorage,
+                           Map<FridgeGroup, List<FridgeItem>> byGroup, List<FridgeItem> expired,
+                           List<FridgeItem> inHurry, int fineCount) {
+        this.day = day;
+        this.items = items;
+        this.byStorage = byStorage;
+        this.byGroup = byGroup;
+        this.expired = expired;
+        this.inHurry = inHurry;
+        this.fineCount = fineCount;
+    }
+
+    public static FridgeSnapshot of(List<FridgeItem> fridgeItems, LocalDate day) {
+        List<FridgeItem> items = new ArrayList<>(fridgeItems);
+        items.sort(Comparator.comparingLong(FridgeItem::getExpDate));
+
+        Map<Storage, List<FridgeItem>> byStorage = new EnumMap<>(Storage.class);
+        for (Storage storage : Storage.values()) {
+            byStorage.put(storage, new ArrayList<>());
+        }
+        Map<FridgeGroup, List<FridgeItem>> byGroup = new EnumMap<>(FridgeGroup.class);
+        for (FridgeGroup group : FridgeGroup.values()) {
+            byGroup.put(group, new ArrayList<>());
+        }
+        List<FridgeItem> expired = new ArrayList<>();
+        List<FridgeItem> inHurry = new ArrayList<>();
+        int fineCount = 0;
+
+        long today = day.toEpochDay();
+        for (FridgeItem item : items) {
+            byStorage.get(item.getStorage()).add(item);
+            byGroup.get(FridgeGroup.of(item.getFoodCategory())).add(item);
+            long daysLeft = item.getExpDate() - today;
+            if (daysLeft < 0) {
+                expired.add(item);
+            } else if (daysLeft < HURRY_DAYS) {
+                inHurry.add(item);
+            } else {
+                fineCount++;
+            }
+        }
+        return new FridgeSnapshot(day, Collections.unmodifiableList(items), byStorage, byGroup, expired, inHurry, fineCount);
+    }
+
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+
+    public List<FridgeItem> byStorage(Storage storage) {
+        return Collections.unmodifiableList(byStorage.get(storage));
+    }
+
+    public List<FridgeItem> byGroup(FridgeGroup group) {
+        return Collections.unmodifiableList(byGroup.get(group));
+    }
+
+    // 남은 일수 (지났으면 음수)
+    public long daysLeft(FridgeItem item) {
+        return item.getExpDate() - day.toEpochDay();
+    }
+}
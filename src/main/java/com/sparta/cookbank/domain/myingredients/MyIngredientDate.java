@@ -0,0 +1,27 @@
+package com.sparta.cookbank.domain.myingredients;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+
+// 내 재료 입고일 / 유통기한 날짜 형식 (요청 검사와 DATE 컬럼 마이그레이션이 같은 규칙을 씀)
+public class MyIngredientDate {
+
+    // '2022-9-1' 같은 값도 허용, 없는 날짜(2022-02-30)는 거부
+    public static final DateTimeFormatter FORMAT = DateTimeFormatter.ofPattern("uuuu-M-d").withResolverStyle(ResolverStyle.STRICT);
+
+    private MyIngredientDate() { }
+
+    // 날짜로 읽을 수 없으면 null
+    public static LocalDate parse(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value.trim(), FORMAT);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -9,12 +9,17 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import javax.persistence.*;
+import java.time.LocalDate;
 
 @Entity
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
+@Table(indexes = {
+        @Index(name = "idx_my_ingredients_member_exp", columnList = "member_id, exp_date"), // 만료/임박 재료 범위 조회
+        @Index(name = "idx_my_ingredients_exp", columnList = "exp_date") // 유통기한 알림 (만료일별 불러오기)
+})
 public class MyIngredients {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -34,9 +39,9 @@ public class MyIngredients {
     private Storage storage;
 
     @Column(nullable = false)
-    private String inDate;
+    private LocalDate inDate;
 
     @Column(nullable = false)
-    private String expDate;
+    private LocalDate expDate;
 
 }
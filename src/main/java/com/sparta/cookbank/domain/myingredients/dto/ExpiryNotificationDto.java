@@ -0,0 +1,19 @@
+package com.sparta.cookbank.domain.myingredients.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExpiryNotificationDto {
+    private String d_date; // "D-Day" (오늘 만료) / "D-1" (내일 만료)
+    private int ingredients_num;
+    private List<InHurryIngredientDto> ingredients;
+
+}
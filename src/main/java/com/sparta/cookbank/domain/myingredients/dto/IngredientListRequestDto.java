@@ -0,0 +1,15 @@
+package com.sparta.cookbank.domain.myingredients.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class IngredientListRequestDto {
+    private List<IngredientRequestDto> ingredients;
+
+}
@@ -14,6 +14,10 @@ import javax.persistence.*;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
+@Table(indexes = {
+        @Index(name = "idx_recipe_way_id", columnList = "RCP_WAY2, id"), // 카테고리 커서 조회용
+        @Index(name = "idx_recipe_pat_id", columnList = "RCP_PAT2, id")
+})
 public class Recipe {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -80,10 +84,16 @@ public class Recipe {
     private String MANUAL_IMG06;
     @Column
     private String MAIN_INGREDIENTS;
+    @Column
+    private Long REVISION; // 수정될 때마다 증가 (ETag 버전), 기존 데이터는 null = 0
 
+    public long getRevision() {
+        return REVISION == null ? 0 : REVISION;
+    }
 
     public void SetMainRecipe(RecipeFixRequestDto requestDto) {
         this.MAIN_INGREDIENTS = requestDto.getMainIngredients();
         this.RCP_PARTS_DTLS = requestDto.getIngredients();
+        this.REVISION = getRevision() + 1;
     }
 }
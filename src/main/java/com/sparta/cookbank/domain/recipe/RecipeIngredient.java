@@ -0,0 +1,40 @@
+package com.sparta.cookbank.domain.recipe;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+// RCP_PARTS_DTLS / MAIN_INGREDIENTS 를 미리 분리해 둔 레시피 재료 테이블
+@Entity
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table(name = "recipe_ingredient", indexes = {
+        @Index(name = "idx_recipe_ingredient_token", columnList = "token"),
+        @Index(name = "idx_recipe_ingredient_recipe", columnList = "recipe_id, position")
+})
+public class RecipeIngredient {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "recipe_id", nullable = false)
+    private Recipe recipe;
+
+    @Column(nullable = false)
+    private int position; // 재료 문자열에서의 순서
+
+    @Column(nullable = false)
+    private String rawText; // 원본 재료명 ex) 닭 가슴살
+
+    @Column(nullable = false)
+    private String token; // 정규화된 재료명 ex) 닭가슴살
+
+    @Column(name = "is_main", nullable = false)
+    private boolean main; // 메인 재료 여부
+}
@@ -14,7 +14,8 @@ import java.util.List;
 @AllArgsConstructor
 public class RecipeBookmarkResponseDto {
     private int current_page_num;
-    private int total_page_num;
     private String user_name;
     private List<RecipeBasicDto> recipes;
+    private boolean has_next;
+    private String next_cursor;
 }
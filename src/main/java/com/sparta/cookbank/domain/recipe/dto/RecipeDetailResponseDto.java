@@ -1,5 +1,6 @@
 package com.sparta.cookbank.domain.recipe.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -11,4 +12,6 @@ import lombok.NoArgsConstructor;
 @Builder
 public class RecipeDetailResponseDto {
     private RecipeDetailDto recipe;
+    @JsonIgnore
+    private String etag; // 응답 헤더용 ("레시피id-버전")
 }
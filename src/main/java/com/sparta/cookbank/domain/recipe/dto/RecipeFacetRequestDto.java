@@ -0,0 +1,19 @@
+package com.sparta.cookbank.domain.recipe.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecipeFacetRequestDto {
+    private List<String> methods; // 요리방법 ex)끓이기 (여러 개면 OR)
+    private List<String> types; // 요리종류 ex)반찬
+    private List<String> calories; // 칼로리 구간 ex)200~400
+    private String recipe_name;
+}
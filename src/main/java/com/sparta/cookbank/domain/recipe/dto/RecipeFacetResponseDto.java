@@ -0,0 +1,23 @@
+package com.sparta.cookbank.domain.recipe.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecipeFacetResponseDto {
+    private int current_page_num;
+    private int total_page_num;
+    private int total_count;
+    private List<RecipeBasicDto> recipes;
+    private Map<String, Integer> method_counts;
+    private Map<String, Integer> type_counts;
+    private Map<String, Integer> calorie_counts;
+}
@@ -0,0 +1,22 @@
+package com.sparta.cookbank.domain.recipe.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecipeImportResponseDto {
+    private int total_count; // 읽은 레시피 수
+    private int inserted_count; // id 없이 새로 추가
+    private int updated_count; // id 기준 upsert (비어 있는 항목은 기존 값 유지)
+    private int skipped_count; // 검증 실패
+    private long elapsed_ms;
+    private long rows_per_second;
+    private List<String> errors; // 검증 실패 사유 (앞쪽 일부만)
+}
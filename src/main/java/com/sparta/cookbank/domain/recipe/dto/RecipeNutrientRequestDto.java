@@ -0,0 +1,24 @@
+package com.sparta.cookbank.domain.recipe.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 영양성분 범위 조건 (min, max 포함, 비워두면 제한 없음)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecipeNutrientRequestDto {
+    private Long min_calorie;
+    private Long max_calorie;
+    private Long min_carbohydrates;
+    private Long max_carbohydrates;
+    private Long min_proteins;
+    private Long max_proteins;
+    private Long min_fats;
+    private Long max_fats;
+    private Long min_sodium;
+    private Long max_sodium;
+}
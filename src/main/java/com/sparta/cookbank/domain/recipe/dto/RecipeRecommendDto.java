@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 import java.util.List;
 
@@ -15,7 +16,8 @@ public class RecipeRecommendDto {
     private Long id;
     private String recipe_name;
     private String recipe_image;
-    private boolean liked;
+    @Setter
+    private boolean liked; // 캐시에는 저장하지 않고 조회 시 회원별로 채움
     private List<String> common_ingredients;
     private List<String> ingredients;
     private String method;
@@ -17,5 +17,12 @@ public class RecipeRecommendRequestDto {
     private String base;
     // 추천 레시피의 서브 재료
     private List<String> foods = new ArrayList<>();
+    // 한 번에 받을 추천 레시피 개수
+    private Integer size;
+    // 이전 응답의 next_cursor (첫 페이지는 null)
+    private String cursor;
 
+    public RecipeRecommendRequestDto(String base, List<String> foods) {
+        this(base, foods, null, null);
+    }
 }
@@ -13,4 +13,6 @@ import java.util.List;
 @AllArgsConstructor
 public class RecipeRecommendResponseDto {
     private List<RecipeRecommendDto> recipes;
+    private boolean has_next;
+    private String next_cursor;
 }
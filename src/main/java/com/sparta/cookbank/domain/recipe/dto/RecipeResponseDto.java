@@ -15,4 +15,6 @@ public class RecipeResponseDto {
     private int current_page_num;
     private int total_page_num;
     private List<RecipeBasicDto> recipes;
+    private boolean has_next; // 커서(after) 요청이나 count=false 요청일 때만 사용
+    private String next_cursor;
 }
@@ -15,5 +15,8 @@ public class RecipeSearchResponseDto {
     private int current_page_num;
     private int total_page_num;
     private List<RecipeBasicDto> recipes;
+    private boolean has_next; // 커서(after) 요청일 때만 사용
+    private String next_cursor;
     private String search_name;
+    private List<AutoCompleteDto> did_you_mean; // 검색 결과가 없을 때만 (오타 교정 추천)
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.sparta.cookbank.domain.recipe.dto;
+
+import lombok.Getter;
+
+// 목록 화면용 레시피 컬럼만 조회하는 QueryDSL projection (조리법/이미지/전체 재료 컬럼 제외)
+@Getter
+public class RecipeSummaryDto {
+    private final Long bookmarkId; // 북마크 목록 조회일 때만 (커서용)
+    private final String memberName; // 북마크 목록 조회일 때만 (회원 조회를 따로 하지 않도록 같이 join)
+    private final Long id;
+    private final String recipeName;
+    private final String mainIngredients;
+    private final String finalImg;
+    private final String method;
+    private final String category;
+    private final Long calorie;
+
+    public RecipeSummaryDto(Long id, String recipeName, String mainIngredients, String finalImg,
+                            String method, String category, Long calorie) {
+        this(null, null, id, recipeName, mainIngredients, finalImg, method, category, calorie);
+    }
+
+    public RecipeSummaryDto(Long bookmarkId, String memberName, Long id, String recipeName, String mainIngredients, String finalImg,
+                            String method, String category, Long calorie) {
+        this.bookmarkId = bookmarkId;
+        this.memberName = memberName;
+        this.id = id;
+        this.recipeName = recipeName;
+        this.mainIngredients = mainIngredients;
+        this.finalImg = finalImg;
+        this.method = method;
+        this.category = category;
+        this.calorie = calorie;
+    }
+}
@@ -0,0 +1,120 @@
+package com.sparta.cookbank.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+// "이 레시피를 요리한 회원들이 함께 요리한 레시피" (요리 완료 + 북마크 기록의 레시피-레시피 동시 출현)
+// 매일 새벽에 전체를 다시 계산하고, 조회는 미리 만든 이웃 목록을 그대로 돌려준다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AlsoCookedIndex {
+
+    public static final int NEIGHBOR_SIZE = 20;
+    // 기록이 아주 많은 회원 한 명이 쌍 개수를 (기록 수)^2 로 키우지 않도록 최근 기록만 사용
+    private static final int MAX_HISTORY_PER_MEMBER = 300;
+    private static final double SCORE_SCALE = 1_000_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 레시피 id -> 유사도 내림차순 이웃 레시피 id
+    private volatile Map<Long, long[]> neighbors = Collections.emptyMap();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 30 4 * * *")
+    public synchronized void build() {
+        long start = System.currentTimeMillis();
+        Map<Long, Set<Long>> recipesByMember = new HashMap<>();
+        collect(recipesByMember, "select member_id, recipe_id from done_recipe order by id desc");
+        collect(recipesByMember, "select member_id, recipe_id from like_recipe order by id desc");
+        index(recipesByMember.values());
+        log.info("함께 요리한 레시피 계산 완료: 회원 {}명, 레시피 {}개, {}ms",
+                recipesByMember.size(), neighbors.size(), System.currentTimeMillis() - start);
+    }
+
+    public List<Long> findNeighbors(Long recipeId, int limit) {
+        long[] recipeIds = neighbors.get(recipeId);
+        if (recipeIds == null) {
+            return Collections.emptyList();
+        }
+        List<Long> result = new ArrayList<>();
+        for (int i = 0; i < recipeIds.length && i < limit; i++) {
+            result.add(recipeIds[i]);
+        }
+        return result;
+    }
+
+    private void collect(Map<Long, Set<Long>> recipesByMember, String sql) {
+        jdbcTemplate.query(sql, rs -> {
+            Set<Long> recipes = recipesByMember.computeIfAbsent(rs.getLong(1), k -> new LinkedHashSet<>());
+            if (recipes.size() < MAX_HISTORY_PER_MEMBER) {
+                recipes.add(rs.getLong(2));
+            }
+        });
+    }
+
+    // 유사도 = 두 레시피를 모두 요리/북마크한 회원 수 / sqrt(각 레시피 회원 수 곱) (코사인)
+    void index(Collection<Set<Long>> histories) {
+        // 레시피 id -> 0부터 시작하는 번호 (id 오름차순, 동점이면 번호가 작은 레시피가 앞)
+        long[] recipeIds = histories.stream().flatMap(Set::stream).mapToLong(Long::longValue).distinct().sorted().toArray();
+        Map<Long, Integer> indexOf = new HashMap<>();
+        for (int i = 0; i < recipeIds.length; i++) {
+            indexOf.put(recipeIds[i], i);
+        }
+
+        int[] memberCounts = new int[recipeIds.length];
+        LongIntHashMap pairCounts = new LongIntHashMap(recipeIds.length * 16);
+        for (Set<Long> history : histories) {
+            int[] items = new int[history.size()];
+            int n = 0;
+            for (Long recipeId : history) {
+                items[n++] = indexOf.get(recipeId);
+            }
+            Arrays.sort(items);
+            for (int i = 0; i < n; i++) {
+                memberCounts[items[i]]++;
+                for (int j = i + 1; j < n; j++) {
+                    pairCounts.increment(((long) items[i] << 32) | items[j]);
+                }
+            }
+        }
+
+        // 레시피마다 유사도 상위 NEIGHBOR_SIZE 개 (점수를 상위 비트, 번호를 하위 비트에 넣어 한 번에 비교)
+        BoundedTopK[] topKs = new BoundedTopK[recipeIds.length];
+        pairCounts.forEach((pair, count) -> {
+            int a = (int) (pair >>> 32);
+            int b = (int) pair;
+            long score = (long) (count / Math.sqrt((double) memberCounts[a] * memberCounts[b]) * SCORE_SCALE);
+            offer(topKs, a, b, score);
+            offer(topKs, b, a, score);
+        });
+
+        Map<Long, long[]> result = new HashMap<>();
+        for (int i = 0; i < topKs.length; i++) {
+            if (topKs[i] == null) {
+                continue;
+            }
+            long[] packed = topKs[i].toSortedDescending();
+            long[] neighborIds = new long[packed.length];
+            for (int k = 0; k < packed.length; k++) {
+                neighborIds[k] = recipeIds[Integer.MAX_VALUE - (int) (packed[k] & 0xFFFFFFFFL)];
+            }
+            result.put(recipeIds[i], neighborIds);
+        }
+        neighbors = result;
+    }
+
+    private static void offer(BoundedTopK[] topKs, int recipe, int neighbor, long score) {
+        if (topKs[recipe] == null) {
+            topKs[recipe] = new BoundedTopK(NEIGHBOR_SIZE);
+        }
+        topKs[recipe].offer((score << 32) | (Integer.MAX_VALUE - neighbor));
+    }
+}
@@ -0,0 +1,112 @@
+package com.sparta.cookbank.index;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.*;
+
+// 편집 거리 기준 BK-tree. 다 만든 뒤에는 읽기 전용으로만 사용 (교체는 참조를 통째로 바꾼다)
+public class BkTree<T> {
+
+    private Node<T> root;
+    private int size;
+
+    // 같은 키가 이미 있으면 값만 추가
+    public void add(String key, T value) {
+        if (root == null) {
+            root = new Node<>(key);
+            root.values.add(value);
+            size++;
+            return;
+        }
+        Node<T> node = root;
+        while (true) {
+            int distance = distance(key, node.key);
+            if (distance == 0) {
+                node.values.add(value);
+                return;
+            }
+            Node<T> child = node.children.get(distance);
+            if (child == null) {
+                child = new Node<>(key);
+                child.values.add(value);
+                node.children.put(distance, child);
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    // query와 거리 maxDistance 이하인 키의 값들. deadline(nanoTime)을 넘기면 그때까지 찾은 것만 돌려준다.
+    public List<Match<T>> search(String query, int maxDistance, long deadline) {
+        List<Match<T>> matches = new ArrayList<>();
+        if (root == null) {
+            return matches;
+        }
+        Deque<Node<T>> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            if (System.nanoTime() > deadline) {
+                break;
+            }
+            Node<T> node = stack.pop();
+            int distance = distance(query, node.key);
+            if (distance <= maxDistance) {
+                for (T value : node.values) {
+                    matches.add(new Match<>(value, distance));
+                }
+            }
+            // 삼각 부등식: 자식 간선 거리가 [d - max, d + max] 안에 있는 것만 내려간다.
+            for (Map.Entry<Integer, Node<T>> entry : node.children.entrySet()) {
+                if (Math.abs(entry.getKey() - distance) <= maxDistance) {
+                    stack.push(entry.getValue());
+                }
+            }
+        }
+        return matches;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 레벤슈타인 거리 (두 줄만 유지)
+    static int distance(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            char c = a.charAt(i - 1);
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = c == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Match<T> {
+        private final T value;
+        private final int distance;
+    }
+
+    private static class Node<T> {
+        private final String key;
+        private final List<T> values = new ArrayList<>(1);
+        private final Map<Integer, Node<T>> children = new HashMap<>();
+
+        private Node(String key) {
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.sparta.cookbank.index;
+
+import java.util.Arrays;
+
+// 크기가 k로 제한된 최소 힙. 큰 값 k개만 남긴다.
+public class BoundedTopK {
+
+    private final long[] heap;
+    private int size;
+
+    public BoundedTopK(int k) {
+        if (k < 1) {
+            throw new IllegalArgumentException("k는 1 이상이어야 합니다.");
+        }
+        this.heap = new long[k];
+    }
+
+    public void offer(long value) {
+        if (size < heap.length) {
+            heap[size] = value;
+            siftUp(size++);
+        } else if (value > heap[0]) {
+            heap[0] = value;
+            siftDown(0);
+        }
+    }
+
+    // 같은 값이 이미 있으면 무시. 밀려난 값은 힙 최솟값 이하라서 다시 들어오지 못하므로 결과에 중복이 없다.
+    public void offerIfAbsent(long value) {
+        if (size == heap.length && value <= heap[0]) {
+            return;
+        }
+        for (int i = 0; i < size; i++) {
+            if (heap[i] == value) {
+                return;
+            }
+        }
+        offer(value);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 남은 값들을 내림차순으로 반환
+    public long[] toSortedDescending() {
+        long[] result = Arrays.copyOf(heap, size);
+        Arrays.sort(result);
+        for (int i = 0, j = result.length - 1; i < j; i++, j--) {
+            long tmp = result[i];
+            result[i] = result[j];
+            result[j] = tmp;
+        }
+        return result;
+    }
+
+    private void siftUp(int i) {
+        long value = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heap[parent] <= value) {
+                break;
+            }
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = value;
+    }
+
+    private void siftDown(int i) {
+        long value = heap[i];
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (value <= heap[child]) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = value;
+    }
+}
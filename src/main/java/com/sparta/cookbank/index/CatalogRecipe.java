@@ -0,0 +1,66 @@
+package com.sparta.cookbank.index;
+
+import com.sparta.cookbank.domain.recipe.Recipe;
+import com.sparta.cookbank.domain.recipe.dto.RecipeSummaryDto;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+// 레시피 카탈로그 한 건 (읽기 전용, 재료/조리법 목록은 미리 나눠 둔다)
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CatalogRecipe {
+    private final Long id;
+    private final long revision;
+    private final String recipeName;
+    private final String method;
+    private final String category;
+    private final Long calorie;
+    private final Long carbohydrates;
+    private final Long proteins;
+    private final Long fats;
+    private final Long sodium;
+    private final String mainImg;
+    private final String finalImg;
+    private final String mainIngredientsText;
+    private final List<String> mainIngredients;
+    private final String ingredientsText;
+    private final List<String> ingredients;
+    private final List<String> manualDescs;
+    private final List<String> manualImgs;
+
+    public static CatalogRecipe of(Recipe recipe) {
+        return new CatalogRecipe(
+                recipe.getId(),
+                recipe.getRevision(),
+                recipe.getRCP_NM(),
+                recipe.getRCP_WAY2(),
+                recipe.getRCP_PAT2(),
+                recipe.getINFO_ENG(),
+                recipe.getINFO_CAR(),
+                recipe.getINFO_PRO(),
+                recipe.getINFO_FAT(),
+                recipe.getINFO_NA(),
+                recipe.getATT_FILE_NO_MAIN(),
+                recipe.getATT_FILE_NO_MK(),
+                recipe.getMAIN_INGREDIENTS(),
+                Collections.unmodifiableList(IngredientTokenizer.split(recipe.getMAIN_INGREDIENTS())),
+                recipe.getRCP_PARTS_DTLS(),
+                Collections.unmodifiableList(IngredientTokenizer.split(recipe.getRCP_PARTS_DTLS())),
+                Collections.unmodifiableList(Arrays.asList(
+                        recipe.getMANUAL01(), recipe.getMANUAL02(), recipe.getMANUAL03(),
+                        recipe.getMANUAL04(), recipe.getMANUAL05(), recipe.getMANUAL06())),
+                Collections.unmodifiableList(Arrays.asList(
+                        recipe.getMANUAL_IMG01(), recipe.getMANUAL_IMG02(), recipe.getMANUAL_IMG03(),
+                        recipe.getMANUAL_IMG04(), recipe.getMANUAL_IMG05(), recipe.getMANUAL_IMG06()))
+        );
+    }
+
+    public RecipeSummaryDto toSummary() {
+        return new RecipeSummaryDto(id, recipeName, mainIngredientsText, finalImg, method, category, calorie);
+    }
+}
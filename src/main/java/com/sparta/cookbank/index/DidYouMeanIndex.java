@@ -0,0 +1,141 @@
+package com.sparta.cookbank.index;
+
+import com.sparta.cookbank.domain.ingredient.Ingredient;
+import com.sparta.cookbank.repository.IngredientsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+// 레시피 이름 / 식재료 이름 오타 교정 ("이것을 찾으셨나요?"). 자모 단위 편집 거리 BK-tree.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DidYouMeanIndex implements RecipeCatalogListener {
+
+    // 추천 한 번에 쓸 수 있는 최대 시간. 넘기면 그때까지 찾은 결과만 돌려준다.
+    private static final long BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+
+    private final IngredientsRepository ingredientsRepository;
+
+    private volatile BkTree<Entry> recipeTree = new BkTree<>();
+    private volatile BkTree<Entry> ingredientTree = new BkTree<>();
+
+    // 레시피 id -> 이름 (재구성용 원본)
+    private final Map<Long, String> recipeNames = new HashMap<>();
+
+    // 카탈로그 적재 시 레시피 이름, 식재료 이름 색인
+    @Override
+    public synchronized void build(List<CatalogRecipe> recipes) {
+        recipeNames.clear();
+        for (CatalogRecipe recipe : recipes) {
+            if (recipe.getRecipeName() != null) {
+                recipeNames.put(recipe.getId(), recipe.getRecipeName());
+            }
+        }
+        recipeTree = treeOf(recipeNames);
+
+        Map<Long, String> ingredientNames = new HashMap<>();
+        for (Ingredient ingredient : ingredientsRepository.findAll()) {
+            if (ingredient.getFoodName() != null) {
+                ingredientNames.put(ingredient.getId(), ingredient.getFoodName());
+            }
+        }
+        ingredientTree = treeOf(ingredientNames);
+        log.info("오타 교정 색인 완료: 레시피 {}개, 식재료 {}개", recipeNames.size(), ingredientNames.size());
+    }
+
+    // 레시피 이름이 바뀌었을 때만 다시 만든다.
+    @Override
+    public synchronized void update(CatalogRecipe recipe) {
+        if (Objects.equals(recipeNames.get(recipe.getId()), recipe.getRecipeName()) || recipe.getRecipeName() == null) {
+            return;
+        }
+        recipeNames.put(recipe.getId(), recipe.getRecipeName());
+        recipeTree = treeOf(recipeNames);
+    }
+
+    public List<NameSuggestion> suggestRecipes(String keyword, int limit) {
+        return suggest(recipeTree, keyword, limit);
+    }
+
+    public List<NameSuggestion> suggestIngredients(String keyword, int limit) {
+        return suggest(ingredientTree, keyword, limit);
+    }
+
+    // 자모 거리 오름차순 -> 이름 길이 차이 오름차순 -> id 오름차순
+    private static List<NameSuggestion> suggest(BkTree<Entry> tree, String keyword, int limit) {
+        if (keyword == null) {
+            return Collections.emptyList();
+        }
+        String query = HangulJamo.decompose(keyword);
+        if (query.isEmpty()) {
+            return Collections.emptyList();
+        }
+        long deadline = System.nanoTime() + BUDGET_NANOS;
+        List<BkTree.Match<Entry>> matches = tree.search(query, maxDistance(query), deadline);
+
+        // 전체 이름과 단어가 같이 걸린 경우 가장 가까운 것 하나만
+        Map<Long, NameSuggestion> best = new HashMap<>();
+        for (BkTree.Match<Entry> match : matches) {
+            Entry entry = match.getValue();
+            NameSuggestion previous = best.get(entry.id);
+            if (previous == null || match.getDistance() < previous.getDistance()) {
+                best.put(entry.id, new NameSuggestion(entry.id, entry.name, match.getDistance()));
+            }
+        }
+        List<NameSuggestion> suggestions = new ArrayList<>(best.values());
+        int length = keyword.length();
+        suggestions.sort(Comparator.comparingInt(NameSuggestion::getDistance)
+                .thenComparingInt(s -> Math.abs(s.getName().length() - length))
+                .thenComparingLong(NameSuggestion::getId));
+        return suggestions.size() > limit ? new ArrayList<>(suggestions.subList(0, limit)) : suggestions;
+    }
+
+    // 짧은 검색어일수록 허용 오타를 줄인다. (자모 4개 ~ 2음절에 1개, 10개 ~ 3~4음절에 2개)
+    private static int maxDistance(String query) {
+        if (query.length() <= 4) {
+            return 1;
+        }
+        if (query.length() <= 10) {
+            return 2;
+        }
+        return 3;
+    }
+
+    // 전체 이름과, 띄어쓰기로 나뉜 각 단어를 키로 넣는다. ("돼지고기 김치찌개"는 "김치찌게"로도 찾을 수 있게)
+    private static BkTree<Entry> treeOf(Map<Long, String> names) {
+        BkTree<Entry> tree = new BkTree<>();
+        List<Long> ids = new ArrayList<>(names.keySet());
+        Collections.sort(ids);
+        for (Long id : ids) {
+            String name = names.get(id);
+            Entry entry = new Entry(id, name);
+            Set<String> keys = new LinkedHashSet<>();
+            keys.add(HangulJamo.decompose(name));
+            for (String word : name.trim().split("\\s+")) {
+                if (word.length() >= 2) {
+                    keys.add(HangulJamo.decompose(word));
+                }
+            }
+            for (String key : keys) {
+                if (!key.isEmpty()) {
+                    tree.add(key, entry);
+                }
+            }
+        }
+        return tree;
+    }
+
+    private static class Entry {
+        private final long id;
+        private final String name;
+
+        private Entry(long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.sparta.cookbank.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+// 필터 조회 결과 한 페이지 + 필터 값별 개수
+@Getter
+@AllArgsConstructor
+public class FacetResult {
+    private final List<Long> recipeIds;
+    private final int totalCount;
+    private final Map<String, Integer> methodCounts;
+    private final Map<String, Integer> typeCounts;
+    private final Map<String, Integer> calorieCounts;
+}
@@ -0,0 +1,41 @@
+package com.sparta.cookbank.index;
+
+// 한글 음절을 초성/중성/종성 자모로 분해 (오타 거리 계산용)
+public class HangulJamo {
+
+    private static final int SYLLABLE_BEGIN = 0xAC00;
+    private static final int SYLLABLE_END = 0xD7A3;
+    private static final int MEDIAL_COUNT = 21;
+    private static final int FINAL_COUNT = 28;
+
+    // 유니코드 조합형 자모 시작 위치
+    private static final char INITIAL_BASE = 0x1100;
+    private static final char MEDIAL_BASE = 0x1161;
+    private static final char FINAL_BASE = 0x11A7;
+
+    private HangulJamo() {
+    }
+
+    // 공백은 빼고 영문은 소문자로, 한글 음절은 자모 2~3글자로 풀어서 이어 붙인다. ("찌개" -> "ㅉㅣㄱㅐ")
+    public static String decompose(String text) {
+        StringBuilder builder = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (c < SYLLABLE_BEGIN || c > SYLLABLE_END) {
+                builder.append(Character.toLowerCase(c));
+                continue;
+            }
+            int index = c - SYLLABLE_BEGIN;
+            builder.append((char) (INITIAL_BASE + index / (MEDIAL_COUNT * FINAL_COUNT)));
+            builder.append((char) (MEDIAL_BASE + index % (MEDIAL_COUNT * FINAL_COUNT) / FINAL_COUNT));
+            int last = index % FINAL_COUNT;
+            if (last > 0) {
+                builder.append((char) (FINAL_BASE + last));
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,62 @@
+package com.sparta.cookbank.index;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+public class IngredientTokenizer {
+
+    private static final String DELIMITER = ",";
+
+    private IngredientTokenizer() { }
+
+    // 쉼표로 구분된 재료 문자열을 앞뒤 공백을 제거한 목록으로 분리
+    public static List<String> split(String ingredients) {
+        List<String> result = new ArrayList<>();
+        if (ingredients == null || ingredients.isBlank()) {
+            return result;
+        }
+        for (String ingredient : ingredients.split(DELIMITER)) {
+            String trimmed = ingredient.trim();
+            if (!trimmed.isEmpty()) {
+                result.add(trimmed);
+            }
+        }
+        return result;
+    }
+
+    // 비교용 정규화 (공백 제거, 소문자)
+    public static String normalize(String ingredient) {
+        if (ingredient == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(ingredient.length());
+        for (int i = 0; i < ingredient.length(); i++) {
+            char c = ingredient.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    // 정규화된 재료 토큰 목록 (중복 제거, 순서 유지)
+    public static List<String> tokenize(String ingredients) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String ingredient : split(ingredients)) {
+            String token = normalize(ingredient);
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return new ArrayList<>(tokens);
+    }
+
+    // 레시피 재료 토큰 (재료 목록 순서, 재료 목록에 없는 메인 재료는 뒤에 붙임) = recipe_ingredient 행의 token 들
+    public static List<String> recipeTokens(String parts, String mainIngredients) {
+        Set<String> tokens = new LinkedHashSet<>(tokenize(parts));
+        tokens.addAll(tokenize(mainIngredients));
+        return new ArrayList<>(tokens);
+    }
+}
@@ -0,0 +1,83 @@
+package com.sparta.cookbank.index;
+
+import java.util.Arrays;
+
+// long -> int 오픈 어드레싱 해시맵 (키/값을 박싱하지 않아서 수백만 개 쌍을 세도 가벼움). 키는 0 이상만.
+public class LongIntHashMap {
+
+    private static final long EMPTY = -1L;
+
+    private long[] keys;
+    private int[] values;
+    private int size;
+
+    public LongIntHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(expectedSize, 8) * 2 - 1) << 1;
+        this.keys = new long[capacity];
+        this.values = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    public void increment(long key) {
+        if (key < 0) {
+            throw new IllegalArgumentException("키는 0 이상이어야 합니다.");
+        }
+        int slot = slot(keys, key);
+        if (keys[slot] == EMPTY) {
+            keys[slot] = key;
+            if (++size * 2 > keys.length) {
+                values[slot] = 1;
+                resize();
+                return;
+            }
+        }
+        values[slot]++;
+    }
+
+    public int get(long key) {
+        int slot = slot(keys, key);
+        return keys[slot] == EMPTY ? 0 : values[slot];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void forEach(Visitor visitor) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                visitor.visit(keys[i], values[i]);
+            }
+        }
+    }
+
+    public interface Visitor {
+        void visit(long key, int value);
+    }
+
+    // 선형 탐사, 키가 있거나 비어 있는 칸
+    private static int slot(long[] table, long key) {
+        int mask = table.length - 1;
+        long h = key * 0x9E3779B97F4A7C15L;
+        int slot = (int) (h ^ (h >>> 32)) & mask;
+        while (table[slot] != EMPTY && table[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new int[oldKeys.length * 2];
+        Arrays.fill(keys, EMPTY);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = slot(keys, oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.sparta.cookbank.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 오타 교정 추천 결과 (레시피/식재료 id + 이름 + 자모 편집 거리)
+@Getter
+@AllArgsConstructor
+public class NameSuggestion {
+    private final long id;
+    private final String name;
+    private final int distance;
+}
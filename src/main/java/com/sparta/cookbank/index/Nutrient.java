@@ -0,0 +1,22 @@
+package com.sparta.cookbank.index;
+
+import java.util.function.Function;
+
+// 레시피 영양성분 컬럼
+public enum Nutrient {
+    CALORIE(CatalogRecipe::getCalorie),
+    CARBOHYDRATES(CatalogRecipe::getCarbohydrates),
+    PROTEINS(CatalogRecipe::getProteins),
+    FATS(CatalogRecipe::getFats),
+    SODIUM(CatalogRecipe::getSodium);
+
+    private final Function<CatalogRecipe, Long> getter;
+
+    Nutrient(Function<CatalogRecipe, Long> getter) {
+        this.getter = getter;
+    }
+
+    public Long valueOf(CatalogRecipe recipe) {
+        return getter.apply(recipe);
+    }
+}
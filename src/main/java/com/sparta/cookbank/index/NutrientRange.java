@@ -0,0 +1,13 @@
+package com.sparta.cookbank.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 영양성분 범위 조건 (min, max 포함, null이면 제한 없음)
+@Getter
+@AllArgsConstructor
+public class NutrientRange {
+    private final Nutrient nutrient;
+    private final Long min;
+    private final Long max;
+}
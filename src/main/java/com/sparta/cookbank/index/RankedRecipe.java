@@ -0,0 +1,12 @@
+package com.sparta.cookbank.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 추천 순위 한 건 (레시피 id, 서브 재료 일치 개수)
+@Getter
+@AllArgsConstructor
+public class RankedRecipe {
+    private final long recipeId;
+    private final int matchCount;
+}
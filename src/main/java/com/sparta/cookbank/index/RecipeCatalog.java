@@ -0,0 +1,200 @@
+package com.sparta.cookbank.index;
+
+import com.sparta.cookbank.domain.recipe.Recipe;
+import com.sparta.cookbank.repository.RecipeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+// 전체 레시피를 메모리에 올려 둔 읽기 전용 카탈로그. 바뀔 때는 새 스냅샷을 만들어 참조를 통째로 교체한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecipeCatalog {
+
+    private final RecipeRepository recipeRepository;
+    private final List<RecipeCatalogListener> listeners;
+
+    private volatile Snapshot snapshot;
+
+    // 서버 시작 시 전체 레시피를 한 번 읽어 카탈로그를 만들고, 같은 목록으로 모든 색인을 구성한다.
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void build() {
+        load(1);
+        log.info("레시피 카탈로그 적재 완료: 레시피 {}개", snapshot.recipes.length);
+    }
+
+    // 대량 import 후 전체 다시 적재 + 모든 색인 재구성
+    public synchronized void reload() {
+        long version = snapshot == null ? 1 : snapshot.version + 1;
+        load(version);
+        log.info("레시피 카탈로그 재적재 완료: 레시피 {}개, 버전 {}", snapshot.recipes.length, version);
+    }
+
+    // 레시피 한 건이 바뀌면 그 레시피만 바꾼 새 스냅샷으로 교체하고 색인들에 알린다.
+    public synchronized void apply(Recipe recipe) {
+        CatalogRecipe changed = CatalogRecipe.of(recipe);
+        if (snapshot != null) {
+            Map<Long, CatalogRecipe> recipes = new HashMap<>();
+            for (CatalogRecipe catalogRecipe : snapshot.recipes) {
+                recipes.put(catalogRecipe.getId(), catalogRecipe);
+            }
+            recipes.put(changed.getId(), changed);
+            snapshot = Snapshot.of(recipes.values(), snapshot.version + 1);
+        }
+        for (RecipeCatalogListener listener : listeners) {
+            listener.update(changed);
+        }
+    }
+
+    private void load(long version) {
+        snapshot = Snapshot.of(toCatalog(recipeRepository.findAll()), version);
+        List<CatalogRecipe> recipes = findAll();
+        for (RecipeCatalogListener listener : listeners) {
+            listener.build(recipes);
+        }
+    }
+
+    public boolean isLoaded() {
+        return snapshot != null;
+    }
+
+    public long getVersion() {
+        Snapshot current = snapshot;
+        return current == null ? 0 : current.version;
+    }
+
+    // 적재 전에는 DB에서 조회
+    public Optional<CatalogRecipe> find(Long id) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return recipeRepository.findById(id).map(CatalogRecipe::of);
+        }
+        return Optional.ofNullable(current.get(id));
+    }
+
+    // recipeIds 순서를 유지, 없는 레시피는 건너뜀
+    public List<CatalogRecipe> findAll(List<Long> recipeIds) {
+        Snapshot current = snapshot;
+        List<CatalogRecipe> recipes = new ArrayList<>();
+        if (current == null) {
+            Map<Long, Recipe> recipeMap = new HashMap<>();
+            for (Recipe recipe : recipeRepository.findAllById(recipeIds)) {
+                recipeMap.put(recipe.getId(), recipe);
+            }
+            for (Long recipeId : recipeIds) {
+                Recipe recipe = recipeMap.get(recipeId);
+                if (recipe != null) {
+                    recipes.add(CatalogRecipe.of(recipe));
+                }
+            }
+            return recipes;
+        }
+        for (Long recipeId : recipeIds) {
+            CatalogRecipe recipe = current.get(recipeId);
+            if (recipe != null) {
+                recipes.add(recipe);
+            }
+        }
+        return recipes;
+    }
+
+    // 다른 엔티티의 FK로 걸 레시피. 카탈로그에 있으면 조회 없이 참조만 만든다.
+    public Optional<Recipe> findReference(Long id) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return recipeRepository.findById(id);
+        }
+        if (current.get(id) == null) {
+            return Optional.empty();
+        }
+        return Optional.of(recipeRepository.getReferenceById(id));
+    }
+
+    // 아래 목록 조회는 적재 후에만 사용 (id 오름차순)
+    public List<CatalogRecipe> findAll() {
+        return Collections.unmodifiableList(Arrays.asList(snapshot.recipes));
+    }
+
+    public List<CatalogRecipe> findByMethod(String method) {
+        return snapshot.byMethod.getOrDefault(method, Collections.emptyList());
+    }
+
+    public List<CatalogRecipe> findByType(String type) {
+        return snapshot.byType.getOrDefault(type, Collections.emptyList());
+    }
+
+    // id 오름차순 목록에서 afterId 다음부터 limit개 (afterId가 null이면 처음부터)
+    public static List<CatalogRecipe> after(List<CatalogRecipe> recipes, Long afterId, int limit) {
+        int lo = 0;
+        int hi = recipes.size();
+        if (afterId != null) {
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (recipes.get(mid).getId() <= afterId) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+        }
+        return recipes.subList(lo, Math.min(lo + limit, recipes.size()));
+    }
+
+    private static List<CatalogRecipe> toCatalog(List<Recipe> recipes) {
+        List<CatalogRecipe> catalog = new ArrayList<>(recipes.size());
+        for (Recipe recipe : recipes) {
+            catalog.add(CatalogRecipe.of(recipe));
+        }
+        return catalog;
+    }
+
+    private static class Snapshot {
+        private final long version;
+        private final long[] ids; // 오름차순
+        private final CatalogRecipe[] recipes; // ids와 같은 순서
+        private final Map<String, List<CatalogRecipe>> byMethod;
+        private final Map<String, List<CatalogRecipe>> byType;
+
+        private Snapshot(long version, long[] ids, CatalogRecipe[] recipes,
+                         Map<String, List<CatalogRecipe>> byMethod, Map<String, List<CatalogRecipe>> byType) {
+            this.version = version;
+            this.ids = ids;
+            this.recipes = recipes;
+            this.byMethod = byMethod;
+            this.byType = byType;
+        }
+
+        private static Snapshot of(Collection<CatalogRecipe> catalog, long version) {
+            CatalogRecipe[] recipes = catalog.toArray(new CatalogRecipe[0]);
+            Arrays.sort(recipes, Comparator.comparingLong(CatalogRecipe::getId));
+            long[] ids = new long[recipes.length];
+            Map<String, List<CatalogRecipe>> byMethod = new HashMap<>();
+            Map<String, List<CatalogRecipe>> byType = new HashMap<>();
+            for (int i = 0; i < recipes.length; i++) {
+                ids[i] = recipes[i].getId();
+                if (recipes[i].getMethod() != null) {
+                    byMethod.computeIfAbsent(recipes[i].getMethod(), k -> new ArrayList<>()).add(recipes[i]);
+                }
+                if (recipes[i].getCategory() != null) {
+                    byType.computeIfAbsent(recipes[i].getCategory(), k -> new ArrayList<>()).add(recipes[i]);
+                }
+            }
+            byMethod.replaceAll((k, v) -> Collections.unmodifiableList(v));
+            byType.replaceAll((k, v) -> Collections.unmodifiableList(v));
+            return new Snapshot(version, ids, recipes, byMethod, byType);
+        }
+
+        private CatalogRecipe get(Long id) {
+            if (id == null) {
+                return null;
+            }
+            int index = Arrays.binarySearch(ids, id);
+            return index < 0 ? null : recipes[index];
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.sparta.cookbank.index;
+
+import java.util.List;
+
+// 레시피 카탈로그가 바뀔 때 같이 갱신해야 하는 색인 (레시피는 카탈로그가 한 번 읽어서 넘겨준다)
+public interface RecipeCatalogListener {
+
+    // 전체 다시 색인 (서버 시작, 대량 import 후)
+    void build(List<CatalogRecipe> recipes);
+
+    // 레시피 한 건이 바뀌었을 때
+    void update(CatalogRecipe recipe);
+}
@@ -0,0 +1,175 @@
+package com.sparta.cookbank.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+// 요리방법 / 요리종류 / 칼로리 구간별 레시피 bitset (다중 필터 + 필터별 개수)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecipeFacetIndex implements RecipeCatalogListener {
+
+    // 칼로리 구간 (상한 미포함)
+    public static final List<String> CALORIE_BANDS = List.of("~200", "200~400", "400~600", "600~");
+    private static final long[] CALORIE_BOUNDS = {200, 400, 600};
+
+
+    private volatile Snapshot snapshot = new Snapshot(new long[0], Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap());
+
+    // 레시피 id -> {방법, 종류, 칼로리 구간} (재구성용 원본)
+    private final Map<Long, String[]> facetsByRecipe = new HashMap<>();
+
+    // 카탈로그 적재 시 전체 레시피 색인
+    @Override
+    public synchronized void build(List<CatalogRecipe> recipes) {
+        facetsByRecipe.clear();
+        for (CatalogRecipe recipe : recipes) {
+            facetsByRecipe.put(recipe.getId(), facetsOf(recipe));
+        }
+        rebuild();
+        log.info("레시피 필터 색인 완료: 레시피 {}개", facetsByRecipe.size());
+    }
+
+    // 레시피 분류/칼로리가 바뀌면 해당 값만 고쳐서 bitset을 다시 만든다.
+    @Override
+    public synchronized void update(CatalogRecipe recipe) {
+        facetsByRecipe.put(recipe.getId(), facetsOf(recipe));
+        rebuild();
+    }
+
+    // 필터 안에서는 OR, 필터끼리는 AND. nameMatchIds가 null이면 이름 조건 없음.
+    public FacetResult filter(List<String> methods, List<String> types, List<String> calories,
+                              long[] nameMatchIds, int offset, int limit) {
+        Snapshot current = snapshot;
+        BitSet name = nameMatchIds == null ? all(current) : toBitSet(current, nameMatchIds);
+        BitSet method = union(current.byMethod, methods, current);
+        BitSet type = union(current.byType, types, current);
+        BitSet calorie = union(current.byCalorie, calories, current);
+
+        BitSet matched = and(name, method, type, calorie);
+
+        // 각 필터의 개수는 자기 자신을 뺀 나머지 필터를 적용한 결과 기준 (다른 값으로 바꿨을 때의 개수)
+        Map<String, Integer> methodCounts = counts(current.byMethod, and(name, type, calorie));
+        Map<String, Integer> typeCounts = counts(current.byType, and(name, method, calorie));
+        Map<String, Integer> calorieCounts = counts(current.byCalorie, and(name, method, type));
+
+        List<Long> page = new ArrayList<>();
+        int skipped = 0;
+        for (int i = matched.nextSetBit(0); i >= 0 && page.size() < limit; i = matched.nextSetBit(i + 1)) {
+            if (skipped < offset) {
+                skipped++;
+                continue;
+            }
+            page.add(current.ids[i]);
+        }
+        return new FacetResult(page, matched.cardinality(), methodCounts, typeCounts, calorieCounts);
+    }
+
+    public static String calorieBand(Long calorie) {
+        if (calorie == null) {
+            return null;
+        }
+        for (int i = 0; i < CALORIE_BOUNDS.length; i++) {
+            if (calorie < CALORIE_BOUNDS[i]) {
+                return CALORIE_BANDS.get(i);
+            }
+        }
+        return CALORIE_BANDS.get(CALORIE_BANDS.size() - 1);
+    }
+
+    private static String[] facetsOf(CatalogRecipe recipe) {
+        return new String[]{recipe.getMethod(), recipe.getCategory(), calorieBand(recipe.getCalorie())};
+    }
+
+    private void rebuild() {
+        long[] ids = facetsByRecipe.keySet().stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(ids);
+        Map<String, BitSet> byMethod = new LinkedHashMap<>();
+        Map<String, BitSet> byType = new LinkedHashMap<>();
+        Map<String, BitSet> byCalorie = new LinkedHashMap<>();
+        for (String band : CALORIE_BANDS) {
+            byCalorie.put(band, new BitSet(ids.length));
+        }
+        for (int i = 0; i < ids.length; i++) {
+            String[] facets = facetsByRecipe.get(ids[i]);
+            set(byMethod, facets[0], i, ids.length);
+            set(byType, facets[1], i, ids.length);
+            set(byCalorie, facets[2], i, ids.length);
+        }
+        snapshot = new Snapshot(ids, byMethod, byType, byCalorie);
+    }
+
+    private static void set(Map<String, BitSet> bitSets, String value, int index, int size) {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        bitSets.computeIfAbsent(value, k -> new BitSet(size)).set(index);
+    }
+
+    private static BitSet all(Snapshot current) {
+        BitSet bitSet = new BitSet(current.ids.length);
+        bitSet.set(0, current.ids.length);
+        return bitSet;
+    }
+
+    private static BitSet toBitSet(Snapshot current, long[] recipeIds) {
+        BitSet bitSet = new BitSet(current.ids.length);
+        for (long id : recipeIds) {
+            int index = Arrays.binarySearch(current.ids, id);
+            if (index >= 0) {
+                bitSet.set(index);
+            }
+        }
+        return bitSet;
+    }
+
+    // 선택한 값이 없으면 전체
+    private static BitSet union(Map<String, BitSet> bitSets, List<String> values, Snapshot current) {
+        if (values == null || values.isEmpty()) {
+            return all(current);
+        }
+        BitSet result = new BitSet(current.ids.length);
+        for (String value : values) {
+            BitSet bitSet = bitSets.get(value);
+            if (bitSet != null) {
+                result.or(bitSet);
+            }
+        }
+        return result;
+    }
+
+    private static BitSet and(BitSet first, BitSet... others) {
+        BitSet result = (BitSet) first.clone();
+        for (BitSet other : others) {
+            result.and(other);
+        }
+        return result;
+    }
+
+    private static Map<String, Integer> counts(Map<String, BitSet> bitSets, BitSet base) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (Map.Entry<String, BitSet> entry : bitSets.entrySet()) {
+            BitSet bitSet = (BitSet) entry.getValue().clone();
+            bitSet.and(base);
+            counts.put(entry.getKey(), bitSet.cardinality());
+        }
+        return counts;
+    }
+
+    private static class Snapshot {
+        private final long[] ids; // bit 위치 -> 레시피 id (오름차순)
+        private final Map<String, BitSet> byMethod;
+        private final Map<String, BitSet> byType;
+        private final Map<String, BitSet> byCalorie;
+
+        private Snapshot(long[] ids, Map<String, BitSet> byMethod, Map<String, BitSet> byType, Map<String, BitSet> byCalorie) {
+            this.ids = ids;
+            this.byMethod = byMethod;
+            this.byType = byType;
+            this.byCalorie = byCalorie;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.sparta.cookbank.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 색인 조회 결과 한 페이지 (레시피 id + 전체 일치 개수)
+@Getter
+@AllArgsConstructor
+public class RecipeIdPage {
+    private final List<Long> recipeIds;
+    private final int totalCount;
+}
@@ -0,0 +1,209 @@
+package com.sparta.cookbank.index;
+
+import com.sparta.cookbank.repository.RecipeIngredientRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+// 재료 토큰 -> 레시피 id 역색인 (추천 레시피용)
+// recipe_ingredient 테이블의 (레시피 id, 토큰) 만 읽어서 만든다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecipeIngredientIndex implements RecipeCatalogListener {
+
+    private static final long[] EMPTY = new long[0];
+    private static final int ID_BITS = 40;
+    private static final long ID_MASK = (1L << ID_BITS) - 1;
+
+    private final RecipeIngredientRepository recipeIngredientRepository;
+
+    // 색인은 통째로 교체해서 읽는 쪽은 락 없이 사용
+    private volatile Snapshot snapshot = new Snapshot(Collections.emptyMap(), Collections.emptyMap());
+
+    // 카탈로그 적재 시 전체 레시피 색인 (재료 행 백필 이후)
+    // 재료 토큰은 카탈로그 목록 대신 recipe_ingredient 테이블에서 (레시피 id, 토큰) 만 읽는다.
+    @Override
+    public synchronized void build(List<CatalogRecipe> recipes) {
+        Map<String, List<Long>> tokenToIds = new HashMap<>();
+        Map<Long, List<String>> tokenListByRecipe = new HashMap<>();
+        for (RecipeIngredientRepository.RecipeTokenView row : recipeIngredientRepository.findAllTokens()) {
+            tokenListByRecipe.computeIfAbsent(row.getRecipeId(), k -> new ArrayList<>()).add(row.getToken());
+            tokenToIds.computeIfAbsent(row.getToken(), k -> new ArrayList<>()).add(row.getRecipeId());
+        }
+        Map<Long, String[]> tokensByRecipe = new HashMap<>();
+        for (Map.Entry<Long, List<String>> entry : tokenListByRecipe.entrySet()) {
+            tokensByRecipe.put(entry.getKey(), entry.getValue().toArray(new String[0]));
+        }
+
+        Map<String, long[]> postings = new HashMap<>();
+        for (Map.Entry<String, List<Long>> entry : tokenToIds.entrySet()) {
+            long[] ids = entry.getValue().stream().mapToLong(Long::longValue).distinct().toArray();
+            Arrays.sort(ids);
+            postings.put(entry.getKey(), ids);
+        }
+
+        snapshot = new Snapshot(postings, tokensByRecipe);
+        log.info("레시피 재료 색인 완료: 레시피 {}개, 재료 토큰 {}개", tokensByRecipe.size(), postings.size());
+    }
+
+    // 레시피 재료가 바뀌었을 때 해당 레시피만 재색인
+    @Override
+    public synchronized void update(CatalogRecipe recipe) {
+        Snapshot current = snapshot;
+        Map<String, long[]> postings = new HashMap<>(current.postings);
+        Map<Long, String[]> tokensByRecipe = new HashMap<>(current.tokensByRecipe);
+        Long id = recipe.getId();
+
+        String[] oldTokens = tokensByRecipe.getOrDefault(id, new String[0]);
+        for (String token : oldTokens) {
+            long[] ids = remove(postings.get(token), id);
+            if (ids.length == 0) {
+                postings.remove(token);
+            } else {
+                postings.put(token, ids);
+            }
+        }
+
+        List<String> newTokens = IngredientTokenizer.recipeTokens(recipe.getIngredientsText(), recipe.getMainIngredientsText());
+        for (String token : newTokens) {
+            postings.put(token, insert(postings.getOrDefault(token, EMPTY), id));
+        }
+        tokensByRecipe.put(id, newTokens.toArray(new String[0]));
+
+        snapshot = new Snapshot(postings, tokensByRecipe);
+    }
+
+    // 검색어가 포함된 재료를 가진 레시피 id (오름차순), 검색어가 없으면 전체 레시피
+    public long[] findRecipeIds(String keyword) {
+        Snapshot current = snapshot;
+        String normalized = IngredientTokenizer.normalize(keyword);
+        if (normalized.isEmpty()) {
+            long[] all = current.tokensByRecipe.keySet().stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(all);
+            return all;
+        }
+
+        long[] result = EMPTY;
+        for (Map.Entry<String, long[]> entry : current.postings.entrySet()) {
+            if (entry.getKey().contains(normalized)) {
+                result = union(result, entry.getValue());
+            }
+        }
+        return result;
+    }
+
+    // recipeIds 각각에 대해 foods 중 몇 개의 재료가 포함되는지 계산 (recipeIds와 같은 순서)
+    public int[] countMatches(long[] recipeIds, List<String> foods) {
+        int[] counts = new int[recipeIds.length];
+        if (foods == null) {
+            return counts;
+        }
+        for (String food : foods) {
+            if (IngredientTokenizer.normalize(food).isEmpty()) {
+                continue;
+            }
+            long[] foodIds = findRecipeIds(food);
+            // 두 배열 모두 정렬되어 있으므로 한 번의 병합 순회로 교집합 확인
+            int i = 0;
+            int j = 0;
+            while (i < recipeIds.length && j < foodIds.length) {
+                if (recipeIds[i] == foodIds[j]) {
+                    counts[i]++;
+                    i++;
+                    j++;
+                } else if (recipeIds[i] < foodIds[j]) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+        }
+        return counts;
+    }
+
+    // 추천 순위(일치 개수 내림차순, id 오름차순)에서 after 다음 limit개를 힙으로 선택
+    public List<RankedRecipe> rank(String base, List<String> foods, RankedRecipe after, int limit) {
+        long[] recipeIds = findRecipeIds(base);
+        int[] counts = countMatches(recipeIds, foods);
+
+        long afterKey = after == null ? Long.MAX_VALUE : rankKey(after.getMatchCount(), after.getRecipeId());
+        BoundedTopK topK = new BoundedTopK(limit);
+        for (int i = 0; i < recipeIds.length; i++) {
+            long key = rankKey(counts[i], recipeIds[i]);
+            if (key < afterKey) {
+                topK.offer(key);
+            }
+        }
+
+        List<RankedRecipe> result = new ArrayList<>(topK.size());
+        for (long key : topK.toSortedDescending()) {
+            result.add(new RankedRecipe(ID_MASK - (key & ID_MASK), (int) (key >>> ID_BITS)));
+        }
+        return result;
+    }
+
+    // 일치 개수를 상위 비트, 뒤집은 id를 하위 비트에 담아 값이 클수록 순위가 높도록 한다.
+    private static long rankKey(int count, long id) {
+        return ((long) count << ID_BITS) | (ID_MASK - id);
+    }
+
+    private static long[] union(long[] a, long[] b) {
+        if (a.length == 0) return b;
+        if (b.length == 0) return a;
+        long[] merged = new long[a.length + b.length];
+        int i = 0, j = 0, k = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                merged[k++] = a[i++];
+                j++;
+            } else if (a[i] < b[j]) {
+                merged[k++] = a[i++];
+            } else {
+                merged[k++] = b[j++];
+            }
+        }
+        while (i < a.length) merged[k++] = a[i++];
+        while (j < b.length) merged[k++] = b[j++];
+        return Arrays.copyOf(merged, k);
+    }
+
+    private static long[] insert(long[] ids, long id) {
+        int pos = Arrays.binarySearch(ids, id);
+        if (pos >= 0) {
+            return ids;
+        }
+        pos = -(pos + 1);
+        long[] result = new long[ids.length + 1];
+        System.arraycopy(ids, 0, result, 0, pos);
+        result[pos] = id;
+        System.arraycopy(ids, pos, result, pos + 1, ids.length - pos);
+        return result;
+    }
+
+    private static long[] remove(long[] ids, long id) {
+        if (ids == null) {
+            return EMPTY;
+        }
+        int pos = Arrays.binarySearch(ids, id);
+        if (pos < 0) {
+            return ids;
+        }
+        long[] result = new long[ids.length - 1];
+        System.arraycopy(ids, 0, result, 0, pos);
+        System.arraycopy(ids, pos + 1, result, pos, ids.length - pos - 1);
+        return result;
+    }
+
+    private static class Snapshot {
+        private final Map<String, long[]> postings;
+        private final Map<Long, String[]> tokensByRecipe;
+
+        private Snapshot(Map<String, long[]> postings, Map<Long, String[]> tokensByRecipe) {
+            this.postings = postings;
+            this.tokensByRecipe = tokensByRecipe;
+        }
+    }
+}
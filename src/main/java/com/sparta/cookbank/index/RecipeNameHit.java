@@ -0,0 +1,12 @@
+package com.sparta.cookbank.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 자동완성 결과 (레시피 id + 이름)
+@Getter
+@AllArgsConstructor
+public class RecipeNameHit {
+    private final long recipeId;
+    private final String recipeName;
+}
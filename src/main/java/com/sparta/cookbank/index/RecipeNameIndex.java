@@ -0,0 +1,290 @@
+package com.sparta.cookbank.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+// 레시피 이름 자동완성용 suffix array (앞부분 일치 우선, 그 다음 중간 일치)
+// 레시피 번호는 id 오름차순으로 매긴다. (번호 순서 = id 순서)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecipeNameIndex implements RecipeCatalogListener {
+
+    private static final long LOW_MASK = 0xFFFFFFFFL; // (레시피 번호 << 32 | 값) 의 하위 32비트
+
+    private volatile Snapshot snapshot = new Snapshot(new long[0], new String[0], new String[0], new int[0], new int[0]);
+
+    // 카탈로그 적재 시 전체 레시피 이름 색인
+    @Override
+    public synchronized void build(List<CatalogRecipe> recipes) {
+        TreeMap<Long, String> names = new TreeMap<>();
+        for (CatalogRecipe recipe : recipes) {
+            if (recipe.getRecipeName() != null) {
+                names.put(recipe.getId(), recipe.getRecipeName());
+            }
+        }
+        rebuild(names);
+        log.info("레시피 이름 색인 완료: 레시피 {}개, 접미사 {}개", names.size(), snapshot.suffixDocs.length);
+    }
+
+    // 레시피가 바뀌면 그 레시피의 접미사만 빼고, 새 이름의 접미사를 정렬해서 병합한다. (전체 재정렬 없음)
+    @Override
+    public synchronized void update(CatalogRecipe recipe) {
+        Snapshot current = snapshot;
+        long id = recipe.getId();
+        String name = recipe.getRecipeName();
+        int oldDoc = Arrays.binarySearch(current.ids, id);
+        if (oldDoc >= 0 ? Objects.equals(current.names[oldDoc], name) : name == null) {
+            return;
+        }
+
+        // 레시피 번호 배열 수정 (이름 변경: 자리 유지, 삭제: 뒤 번호를 하나씩 당김, 추가: id 순서 자리에 끼움)
+        int docCount = current.ids.length;
+        int newDoc;
+        int shiftFrom; // 이 번호부터 shift만큼 이동
+        int shift;
+        long[] ids;
+        String[] names;
+        String[] normalized;
+        if (oldDoc >= 0 && name != null) {
+            ids = current.ids;
+            names = current.names.clone();
+            normalized = current.normalized.clone();
+            newDoc = oldDoc;
+            shiftFrom = docCount;
+            shift = 0;
+        } else if (oldDoc >= 0) {
+            ids = removeAt(current.ids, oldDoc);
+            names = removeAt(current.names, oldDoc);
+            normalized = removeAt(current.normalized, oldDoc);
+            newDoc = -1;
+            shiftFrom = oldDoc + 1;
+            shift = -1;
+        } else {
+            newDoc = -(oldDoc + 1);
+            ids = new long[docCount + 1];
+            System.arraycopy(current.ids, 0, ids, 0, newDoc);
+            ids[newDoc] = id;
+            System.arraycopy(current.ids, newDoc, ids, newDoc + 1, docCount - newDoc);
+            names = insertAt(current.names, newDoc, null);
+            normalized = insertAt(current.normalized, newDoc, null);
+            shiftFrom = newDoc;
+            shift = 1;
+        }
+
+        // 새 이름의 접미사 (이름 길이만큼이라 박싱 정렬해도 작다)
+        Long[] added = new Long[0];
+        if (newDoc >= 0) {
+            names[newDoc] = name;
+            normalized[newDoc] = IngredientTokenizer.normalize(name);
+            added = new Long[normalized[newDoc].length()];
+            for (int offset = 0; offset < added.length; offset++) {
+                added[offset] = ((long) newDoc << 32) | offset;
+            }
+            String[] finalNormalized = normalized;
+            Arrays.sort(added, (a, b) -> compareSuffix(finalNormalized, a, b));
+        }
+
+        // 기존 접미사에서 이 레시피 것을 빼면서 번호를 옮기고, 새 접미사와 한 번에 병합
+        int oldLength = oldDoc >= 0 ? current.normalized[oldDoc].length() : 0;
+        int suffixCount = current.suffixDocs.length - oldLength + added.length;
+        int[] suffixDocs = new int[suffixCount];
+        int[] suffixOffsets = new int[suffixCount];
+        int k = 0;
+        int j = 0;
+        for (int i = 0; i < current.suffixDocs.length; i++) {
+            int doc = current.suffixDocs[i];
+            if (doc == oldDoc) {
+                continue;
+            }
+            if (doc >= shiftFrom) {
+                doc += shift;
+            }
+            long suffix = ((long) doc << 32) | current.suffixOffsets[i];
+            while (j < added.length && compareSuffix(normalized, added[j], suffix) < 0) {
+                suffixDocs[k] = newDoc;
+                suffixOffsets[k++] = (int) (added[j++] & LOW_MASK);
+            }
+            suffixDocs[k] = doc;
+            suffixOffsets[k++] = current.suffixOffsets[i];
+        }
+        while (j < added.length) {
+            suffixDocs[k] = newDoc;
+            suffixOffsets[k++] = (int) (added[j++] & LOW_MASK);
+        }
+        snapshot = new Snapshot(ids, names, normalized, suffixDocs, suffixOffsets);
+    }
+
+    // 검색어가 이름 앞부분에 있는 레시피를 먼저, 그 다음 중간에 있는 레시피를 id 오름차순으로 최대 limit개
+    // 일치하는 접미사를 한 번 훑으면서 상위 limit개만 힙에 남긴다. (레시피별 Map 없음)
+    public List<RecipeNameHit> search(String keyword, int limit) {
+        Snapshot current = snapshot;
+        String key = IngredientTokenizer.normalize(keyword);
+        if (key.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        BoundedTopK topK = new BoundedTopK(limit);
+        for (int i = lowerBound(current, key); i < current.suffixDocs.length && startsWith(current, i, key); i++) {
+            int doc = current.suffixDocs[i];
+            boolean prefix = current.normalized[doc].startsWith(key);
+            // 앞부분 일치 레시피는 시작 위치 0 접미사로 한 번만 센다.
+            if (prefix && current.suffixOffsets[i] != 0) {
+                continue;
+            }
+            // 번호가 작을수록(id가 작을수록) 값이 크도록 뒤집어서 담는다.
+            topK.offerIfAbsent(((prefix ? 1L : 0L) << 32) | (LOW_MASK - doc));
+        }
+
+        List<RecipeNameHit> hits = new ArrayList<>(topK.size());
+        for (long rankKey : topK.toSortedDescending()) {
+            int doc = (int) (LOW_MASK - (rankKey & LOW_MASK));
+            hits.add(new RecipeNameHit(current.ids[doc], current.names[doc]));
+        }
+        return hits;
+    }
+
+    // 이름에 검색어가 포함된 모든 레시피 id (오름차순)
+    public long[] findRecipeIds(String keyword) {
+        Snapshot current = snapshot;
+        String key = IngredientTokenizer.normalize(keyword);
+        if (key.isEmpty()) {
+            return new long[0];
+        }
+        Set<Integer> docs = new HashSet<>();
+        for (int i = lowerBound(current, key); i < current.suffixDocs.length && startsWith(current, i, key); i++) {
+            docs.add(current.suffixDocs[i]);
+        }
+        long[] ids = new long[docs.size()];
+        int k = 0;
+        for (Integer doc : docs) {
+            ids[k++] = current.ids[doc];
+        }
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    // names는 id 오름차순
+    private void rebuild(SortedMap<Long, String> names) {
+        int docCount = names.size();
+        long[] ids = new long[docCount];
+        String[] originals = new String[docCount];
+        String[] normalized = new String[docCount];
+        int suffixCount = 0;
+        int doc = 0;
+        for (Map.Entry<Long, String> entry : names.entrySet()) {
+            ids[doc] = entry.getKey();
+            originals[doc] = entry.getValue();
+            normalized[doc] = IngredientTokenizer.normalize(entry.getValue());
+            suffixCount += normalized[doc].length();
+            doc++;
+        }
+
+        // (레시피 번호 << 32 | 시작 위치) 를 접미사 사전순으로 정렬
+        Long[] suffixes = new Long[suffixCount];
+        int k = 0;
+        for (int d = 0; d < docCount; d++) {
+            for (int offset = 0; offset < normalized[d].length(); offset++) {
+                suffixes[k++] = ((long) d << 32) | offset;
+            }
+        }
+        Arrays.sort(suffixes, (a, b) -> compareSuffix(normalized, a, b));
+
+        int[] suffixDocs = new int[suffixCount];
+        int[] suffixOffsets = new int[suffixCount];
+        for (int i = 0; i < suffixCount; i++) {
+            suffixDocs[i] = (int) (suffixes[i] >>> 32);
+            suffixOffsets[i] = (int) (suffixes[i] & LOW_MASK);
+        }
+        snapshot = new Snapshot(ids, originals, normalized, suffixDocs, suffixOffsets);
+    }
+
+    private static int compareSuffix(String[] normalized, long a, long b) {
+        String s1 = normalized[(int) (a >>> 32)];
+        String s2 = normalized[(int) (b >>> 32)];
+        int i = (int) (a & LOW_MASK);
+        int j = (int) (b & LOW_MASK);
+        while (i < s1.length() && j < s2.length()) {
+            char c1 = s1.charAt(i++);
+            char c2 = s2.charAt(j++);
+            if (c1 != c2) {
+                return c1 - c2;
+            }
+        }
+        return (s1.length() - i) - (s2.length() - j);
+    }
+
+    // key 이상인 첫 접미사 위치
+    private static int lowerBound(Snapshot current, String key) {
+        int lo = 0;
+        int hi = current.suffixDocs.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (compareAt(current.normalized[current.suffixDocs[mid]], current.suffixOffsets[mid], key) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    // name의 offset부터 시작하는 접미사와 key를 사전순 비교
+    private static int compareAt(String name, int offset, String key) {
+        int i = offset;
+        int j = 0;
+        while (i < name.length() && j < key.length()) {
+            char c1 = name.charAt(i++);
+            char c2 = key.charAt(j++);
+            if (c1 != c2) {
+                return c1 - c2;
+            }
+        }
+        return (name.length() - i) - (key.length() - j);
+    }
+
+    private static boolean startsWith(Snapshot current, int i, String key) {
+        return current.normalized[current.suffixDocs[i]].startsWith(key, current.suffixOffsets[i]);
+    }
+
+    private static long[] removeAt(long[] values, int index) {
+        long[] result = new long[values.length - 1];
+        System.arraycopy(values, 0, result, 0, index);
+        System.arraycopy(values, index + 1, result, index, values.length - index - 1);
+        return result;
+    }
+
+    private static String[] removeAt(String[] values, int index) {
+        String[] result = new String[values.length - 1];
+        System.arraycopy(values, 0, result, 0, index);
+        System.arraycopy(values, index + 1, result, index, values.length - index - 1);
+        return result;
+    }
+
+    private static String[] insertAt(String[] values, int index, String value) {
+        String[] result = new String[values.length + 1];
+        System.arraycopy(values, 0, result, 0, index);
+        result[index] = value;
+        System.arraycopy(values, index, result, index + 1, values.length - index);
+        return result;
+    }
+
+    private static class Snapshot {
+        private final long[] ids; // 레시피 번호 -> 레시피 id (오름차순)
+        private final String[] names;
+        private final String[] normalized;
+        private final int[] suffixDocs;
+        private final int[] suffixOffsets;
+
+        private Snapshot(long[] ids, String[] names, String[] normalized, int[] suffixDocs, int[] suffixOffsets) {
+            this.ids = ids;
+            this.names = names;
+            this.normalized = normalized;
+            this.suffixDocs = suffixDocs;
+            this.suffixOffsets = suffixOffsets;
+        }
+    }
+}
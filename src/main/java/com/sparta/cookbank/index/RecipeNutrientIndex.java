@@ -0,0 +1,184 @@
+package com.sparta.cookbank.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+// 영양성분별 정렬된 값 배열 + 레시피 순서 배열 (범위 조건 조회용)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecipeNutrientIndex implements RecipeCatalogListener {
+
+    private static final long MISSING = Long.MIN_VALUE;
+    private static final int NUTRIENT_COUNT = Nutrient.values().length;
+
+
+    private volatile Snapshot snapshot = new Snapshot(new long[0], new long[NUTRIENT_COUNT][0], new long[NUTRIENT_COUNT][0], new int[NUTRIENT_COUNT][0]);
+
+    // 레시피 id -> 영양성분 값 (Nutrient 순서, 값이 없으면 MISSING)
+    private final Map<Long, long[]> valuesByRecipe = new HashMap<>();
+
+    // 카탈로그 적재 시 전체 레시피 색인
+    @Override
+    public synchronized void build(List<CatalogRecipe> recipes) {
+        valuesByRecipe.clear();
+        for (CatalogRecipe recipe : recipes) {
+            valuesByRecipe.put(recipe.getId(), valuesOf(recipe));
+        }
+        rebuild();
+        log.info("레시피 영양성분 색인 완료: 레시피 {}개", valuesByRecipe.size());
+    }
+
+    // 레시피 영양성분이 바뀌면 해당 값만 고쳐서 다시 정렬
+    @Override
+    public synchronized void update(CatalogRecipe recipe) {
+        valuesByRecipe.put(recipe.getId(), valuesOf(recipe));
+        rebuild();
+    }
+
+    // 모든 범위 조건을 만족하는 레시피를 id 오름차순으로 offset부터 limit개
+    public RecipeIdPage query(List<NutrientRange> ranges, int offset, int limit) {
+        Snapshot current = snapshot;
+        if (ranges.isEmpty() || current.ids.length == 0) {
+            return new RecipeIdPage(Collections.emptyList(), 0);
+        }
+
+        // 가장 좁은 범위 구간을 후보로 잡고, 나머지 조건은 컬럼 배열에서 값을 바로 확인
+        int narrowest = -1;
+        int from = 0;
+        int to = 0;
+        for (int r = 0; r < ranges.size(); r++) {
+            int n = ranges.get(r).getNutrient().ordinal();
+            int lo = lowerBound(current.sortedValues[n], min(ranges.get(r)));
+            int hi = upperBound(current.sortedValues[n], max(ranges.get(r)));
+            if (narrowest < 0 || hi - lo < to - from) {
+                narrowest = r;
+                from = lo;
+                to = hi;
+            }
+        }
+
+        int[] docs = current.docsByValue[ranges.get(narrowest).getNutrient().ordinal()];
+        int[] matched = new int[Math.max(to - from, 0)];
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            int doc = docs[i];
+            boolean all = true;
+            for (int r = 0; r < ranges.size() && all; r++) {
+                if (r == narrowest) {
+                    continue;
+                }
+                long value = current.columns[ranges.get(r).getNutrient().ordinal()][doc];
+                all = value != MISSING && value >= min(ranges.get(r)) && value <= max(ranges.get(r));
+            }
+            if (all) {
+                matched[count++] = doc;
+            }
+        }
+
+        // 레시피 번호는 id 오름차순으로 매겨져 있으므로 번호로 정렬하면 id 순서
+        Arrays.sort(matched, 0, count);
+        List<Long> page = new ArrayList<>();
+        for (int i = offset; i < count && i < offset + limit; i++) {
+            page.add(current.ids[matched[i]]);
+        }
+        return new RecipeIdPage(page, count);
+    }
+
+    private static long[] valuesOf(CatalogRecipe recipe) {
+        long[] values = new long[NUTRIENT_COUNT];
+        for (Nutrient nutrient : Nutrient.values()) {
+            Long value = nutrient.valueOf(recipe);
+            values[nutrient.ordinal()] = value == null ? MISSING : value;
+        }
+        return values;
+    }
+
+    private void rebuild() {
+        long[] ids = valuesByRecipe.keySet().stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(ids);
+        long[][] columns = new long[NUTRIENT_COUNT][ids.length];
+        for (int doc = 0; doc < ids.length; doc++) {
+            long[] values = valuesByRecipe.get(ids[doc]);
+            for (int n = 0; n < NUTRIENT_COUNT; n++) {
+                columns[n][doc] = values[n];
+            }
+        }
+
+        long[][] sortedValues = new long[NUTRIENT_COUNT][];
+        int[][] docsByValue = new int[NUTRIENT_COUNT][];
+        for (int n = 0; n < NUTRIENT_COUNT; n++) {
+            // (값, 레시피 번호) 를 한 번에 정렬하기 위해 번호를 함께 담아 정렬 후 분리 (값이 없는 레시피는 제외)
+            long[] column = columns[n];
+            List<long[]> pairs = new ArrayList<>();
+            for (int doc = 0; doc < ids.length; doc++) {
+                if (column[doc] != MISSING) {
+                    pairs.add(new long[]{column[doc], doc});
+                }
+            }
+            pairs.sort((a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(a[1], b[1]));
+            sortedValues[n] = new long[pairs.size()];
+            docsByValue[n] = new int[pairs.size()];
+            for (int i = 0; i < pairs.size(); i++) {
+                sortedValues[n][i] = pairs.get(i)[0];
+                docsByValue[n][i] = (int) pairs.get(i)[1];
+            }
+        }
+        snapshot = new Snapshot(ids, columns, sortedValues, docsByValue);
+    }
+
+    private static long min(NutrientRange range) {
+        return range.getMin() == null ? Long.MIN_VALUE + 1 : range.getMin();
+    }
+
+    private static long max(NutrientRange range) {
+        return range.getMax() == null ? Long.MAX_VALUE : range.getMax();
+    }
+
+    // value 이상인 첫 위치
+    private static int lowerBound(long[] values, long value) {
+        int lo = 0;
+        int hi = values.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (values[mid] < value) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    // value 초과인 첫 위치
+    private static int upperBound(long[] values, long value) {
+        int lo = 0;
+        int hi = values.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (values[mid] <= value) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static class Snapshot {
+        private final long[] ids; // 레시피 번호 -> 레시피 id (오름차순)
+        private final long[][] columns; // [영양성분][레시피 번호] -> 값
+        private final long[][] sortedValues; // [영양성분] 값 오름차순
+        private final int[][] docsByValue; // [영양성분] sortedValues와 같은 순서의 레시피 번호
+
+        private Snapshot(long[] ids, long[][] columns, long[][] sortedValues, int[][] docsByValue) {
+            this.ids = ids;
+            this.columns = columns;
+            this.sortedValues = sortedValues;
+            this.docsByValue = docsByValue;
+        }
+    }
+}
@@ -0,0 +1,334 @@
+package com.sparta.cookbank.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+// 레시피 이름 + 재료 전문 검색 색인 (한글 bigram, BM25 관련도 순)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecipeTextIndex implements RecipeCatalogListener {
+
+    private static final int NAME_WEIGHT = 2; // 이름에 나온 단어는 재료보다 가중치를 더 준다.
+    private static final int INGREDIENT_WEIGHT = 1;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+
+    private volatile Snapshot snapshot = new Snapshot(Collections.emptyMap(), Collections.emptyMap(), 0L);
+
+    // 카탈로그 적재 시 전체 레시피 색인
+    @Override
+    public synchronized void build(List<CatalogRecipe> recipes) {
+        Map<String, List<long[]>> termToPostings = new HashMap<>();
+        Map<Long, Document> documents = new HashMap<>();
+        long totalLength = 0;
+        for (CatalogRecipe recipe : recipes) {
+            Document document = analyze(recipe);
+            documents.put(recipe.getId(), document);
+            totalLength += document.length;
+            for (int i = 0; i < document.terms.length; i++) {
+                termToPostings.computeIfAbsent(document.terms[i], k -> new ArrayList<>())
+                        .add(new long[]{recipe.getId(), document.freqs[i]});
+            }
+        }
+
+        Map<String, Postings> postings = new HashMap<>();
+        for (Map.Entry<String, List<long[]>> entry : termToPostings.entrySet()) {
+            List<long[]> list = entry.getValue();
+            list.sort(Comparator.comparingLong(p -> p[0]));
+            long[] ids = new long[list.size()];
+            int[] freqs = new int[list.size()];
+            for (int i = 0; i < list.size(); i++) {
+                ids[i] = list.get(i)[0];
+                freqs[i] = (int) list.get(i)[1];
+            }
+            postings.put(entry.getKey(), new Postings(ids, freqs));
+        }
+
+        snapshot = new Snapshot(postings, documents, totalLength);
+        log.info("레시피 검색 색인 완료: 레시피 {}개, 단어 {}개", documents.size(), postings.size());
+    }
+
+    // 레시피 이름/재료가 바뀌었을 때 해당 레시피만 재색인
+    @Override
+    public synchronized void update(CatalogRecipe recipe) {
+        Snapshot current = snapshot;
+        Map<String, Postings> postings = new HashMap<>(current.postings);
+        Map<Long, Document> documents = new HashMap<>(current.documents);
+        long totalLength = current.totalLength;
+        long id = recipe.getId();
+
+        Document old = documents.remove(id);
+        if (old != null) {
+            totalLength -= old.length;
+            for (String term : old.terms) {
+                Postings removed = postings.get(term).remove(id);
+                if (removed.ids.length == 0) {
+                    postings.remove(term);
+                } else {
+                    postings.put(term, removed);
+                }
+            }
+        }
+
+        Document document = analyze(recipe);
+        documents.put(id, document);
+        totalLength += document.length;
+        for (int i = 0; i < document.terms.length; i++) {
+            Postings existing = postings.getOrDefault(document.terms[i], Postings.EMPTY);
+            postings.put(document.terms[i], existing.insert(id, document.freqs[i]));
+        }
+
+        snapshot = new Snapshot(postings, documents, totalLength);
+    }
+
+    // 검색어의 모든 단어를 포함하는 레시피를 BM25 점수 내림차순(같으면 id 오름차순)으로 offset부터 limit개
+    public SearchHits search(String keyword, int offset, int limit) {
+        Matches matches = match(keyword);
+        List<Long> ids = new ArrayList<>();
+        List<Double> scores = new ArrayList<>();
+        for (int i = offset; i < matches.count && i < offset + limit; i++) {
+            ids.add(matches.ids[matches.order[i]]);
+            scores.add(matches.scores[matches.order[i]]);
+        }
+        return new SearchHits(ids, scores, matches.count);
+    }
+
+    // 커서(마지막 점수, 마지막 id) 다음 순위부터 limit개
+    public SearchHits searchAfter(String keyword, double afterScore, long afterId, int limit) {
+        Matches matches = match(keyword);
+        List<Long> ids = new ArrayList<>();
+        List<Double> scores = new ArrayList<>();
+        for (int i = 0; i < matches.count && ids.size() < limit; i++) {
+            int c = matches.order[i];
+            if (matches.scores[c] < afterScore || (matches.scores[c] == afterScore && matches.ids[c] > afterId)) {
+                ids.add(matches.ids[c]);
+                scores.add(matches.scores[c]);
+            }
+        }
+        return new SearchHits(ids, scores, matches.count);
+    }
+
+    private Matches match(String keyword) {
+        Snapshot current = snapshot;
+        Set<String> queryTerms = new LinkedHashSet<>(tokenize(keyword));
+        if (queryTerms.isEmpty() || current.documents.isEmpty()) {
+            return Matches.EMPTY;
+        }
+
+        List<Postings> lists = new ArrayList<>();
+        for (String term : queryTerms) {
+            Postings p = current.postings.get(term);
+            if (p == null) {
+                return Matches.EMPTY;
+            }
+            lists.add(p);
+        }
+        // 가장 짧은 목록을 기준으로 나머지는 이분 탐색하며 교집합
+        lists.sort(Comparator.comparingInt(p -> p.ids.length));
+
+        int docCount = current.documents.size();
+        double avgLength = (double) current.totalLength / docCount;
+        Postings shortest = lists.get(0);
+        long[] candidates = new long[shortest.ids.length];
+        double[] scores = new double[shortest.ids.length];
+        int matched = 0;
+
+        for (int c = 0; c < shortest.ids.length; c++) {
+            long id = shortest.ids[c];
+            double docLengthNorm = K1 * (1 - B + B * current.documents.get(id).length / avgLength);
+            double score = 0;
+            boolean all = true;
+            for (Postings p : lists) {
+                int pos = Arrays.binarySearch(p.ids, id);
+                if (pos < 0) {
+                    all = false;
+                    break;
+                }
+                double idf = Math.log(1 + (docCount - p.ids.length + 0.5) / (p.ids.length + 0.5));
+                int tf = p.freqs[pos];
+                score += idf * tf * (K1 + 1) / (tf + docLengthNorm);
+            }
+            if (all) {
+                candidates[matched] = id;
+                scores[matched] = score;
+                matched++;
+            }
+        }
+
+        Integer[] order = new Integer[matched];
+        for (int i = 0; i < matched; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> {
+            int cmp = Double.compare(scores[b], scores[a]);
+            return cmp != 0 ? cmp : Long.compare(candidates[a], candidates[b]);
+        });
+        return new Matches(candidates, scores, order, matched);
+    }
+
+    // 한글 음절은 두 글자씩 겹쳐 자르고(한 글자 단어는 그대로), 영문/숫자는 단어 단위로 자른다.
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String lower = text.toLowerCase();
+        int start = 0;
+        while (start < lower.length()) {
+            char c = lower.charAt(start);
+            if (!Character.isLetterOrDigit(c)) {
+                start++;
+                continue;
+            }
+            boolean hangul = isHangul(c);
+            int end = start + 1;
+            while (end < lower.length() && Character.isLetterOrDigit(lower.charAt(end)) && isHangul(lower.charAt(end)) == hangul) {
+                end++;
+            }
+            if (!hangul || end - start == 1) {
+                tokens.add(lower.substring(start, end));
+            } else {
+                for (int i = start; i + 1 < end; i++) {
+                    tokens.add(lower.substring(i, i + 2));
+                }
+            }
+            start = end;
+        }
+        return tokens;
+    }
+
+    private static boolean isHangul(char c) {
+        return c >= '가' && c <= '힣';
+    }
+
+    private static Document analyze(CatalogRecipe recipe) {
+        Map<String, Integer> freqs = new HashMap<>();
+        int length = 0;
+        for (String token : tokenize(recipe.getRecipeName())) {
+            freqs.merge(token, NAME_WEIGHT, Integer::sum);
+            length += NAME_WEIGHT;
+        }
+        for (String token : tokenize(recipe.getIngredientsText())) {
+            freqs.merge(token, INGREDIENT_WEIGHT, Integer::sum);
+            length += INGREDIENT_WEIGHT;
+        }
+        // 한 글자 검색어도 찾을 수 있도록 음절 단위도 색인 (문서 길이에는 포함하지 않음)
+        addSyllables(freqs, recipe.getRecipeName(), NAME_WEIGHT);
+        addSyllables(freqs, recipe.getIngredientsText(), INGREDIENT_WEIGHT);
+        String[] terms = new String[freqs.size()];
+        int[] termFreqs = new int[freqs.size()];
+        int i = 0;
+        for (Map.Entry<String, Integer> entry : freqs.entrySet()) {
+            terms[i] = entry.getKey();
+            termFreqs[i] = entry.getValue();
+            i++;
+        }
+        return new Document(terms, termFreqs, length);
+    }
+
+    private static void addSyllables(Map<String, Integer> freqs, String text, int weight) {
+        if (text == null) {
+            return;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            boolean single = (i == 0 || !isHangul(text.charAt(i - 1))) && (i + 1 == text.length() || !isHangul(text.charAt(i + 1)));
+            // 한 글자 단어는 tokenize에서 이미 색인됨
+            if (isHangul(c) && !single) {
+                freqs.merge(String.valueOf(c), weight, Integer::sum);
+            }
+        }
+    }
+
+    private static class Document {
+        private final String[] terms;
+        private final int[] freqs;
+        private final int length;
+
+        private Document(String[] terms, int[] freqs, int length) {
+            this.terms = terms;
+            this.freqs = freqs;
+            this.length = length;
+        }
+    }
+
+    // id 오름차순 정렬된 레시피 id와 단어 빈도
+    private static class Postings {
+        private static final Postings EMPTY = new Postings(new long[0], new int[0]);
+
+        private final long[] ids;
+        private final int[] freqs;
+
+        private Postings(long[] ids, int[] freqs) {
+            this.ids = ids;
+            this.freqs = freqs;
+        }
+
+        private Postings insert(long id, int freq) {
+            int pos = Arrays.binarySearch(ids, id);
+            if (pos >= 0) {
+                int[] newFreqs = freqs.clone();
+                newFreqs[pos] = freq;
+                return new Postings(ids, newFreqs);
+            }
+            pos = -(pos + 1);
+            long[] newIds = new long[ids.length + 1];
+            int[] newFreqs = new int[freqs.length + 1];
+            System.arraycopy(ids, 0, newIds, 0, pos);
+            System.arraycopy(freqs, 0, newFreqs, 0, pos);
+            newIds[pos] = id;
+            newFreqs[pos] = freq;
+            System.arraycopy(ids, pos, newIds, pos + 1, ids.length - pos);
+            System.arraycopy(freqs, pos, newFreqs, pos + 1, freqs.length - pos);
+            return new Postings(newIds, newFreqs);
+        }
+
+        private Postings remove(long id) {
+            int pos = Arrays.binarySearch(ids, id);
+            if (pos < 0) {
+                return this;
+            }
+            long[] newIds = new long[ids.length - 1];
+            int[] newFreqs = new int[freqs.length - 1];
+            System.arraycopy(ids, 0, newIds, 0, pos);
+            System.arraycopy(freqs, 0, newFreqs, 0, pos);
+            System.arraycopy(ids, pos + 1, newIds, pos, ids.length - pos - 1);
+            System.arraycopy(freqs, pos + 1, newFreqs, pos, freqs.length - pos - 1);
+            return new Postings(newIds, newFreqs);
+        }
+    }
+
+    // 일치한 레시피와 점수, 순위 (order[i] = i번째 순위의 candidates 위치)
+    private static class Matches {
+        private static final Matches EMPTY = new Matches(new long[0], new double[0], new Integer[0], 0);
+
+        private final long[] ids;
+        private final double[] scores;
+        private final Integer[] order;
+        private final int count;
+
+        private Matches(long[] ids, double[] scores, Integer[] order, int count) {
+            this.ids = ids;
+            this.scores = scores;
+            this.order = order;
+            this.count = count;
+        }
+    }
+
+    private static class Snapshot {
+        private final Map<String, Postings> postings;
+        private final Map<Long, Document> documents;
+        private final long totalLength;
+
+        private Snapshot(Map<String, Postings> postings, Map<Long, Document> documents, long totalLength) {
+            this.postings = postings;
+            this.documents = documents;
+            this.totalLength = totalLength;
+        }
+    }
+}
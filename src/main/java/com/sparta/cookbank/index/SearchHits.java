@@ -0,0 +1,15 @@
+package com.sparta.cookbank.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 검색 결과 한 페이지 (관련도 순 레시피 id, 점수 + 전체 일치 개수)
+@Getter
+@AllArgsConstructor
+public class SearchHits {
+    private final List<Long> recipeIds;
+    private final List<Double> scores;
+    private final int totalCount;
+}
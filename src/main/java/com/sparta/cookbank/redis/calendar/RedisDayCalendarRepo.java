@@ -1,6 +1,5 @@
 package com.sparta.cookbank.redis.calendar;
 
-import com.sparta.cookbank.redis.ingredient.RedisIngredient;
 import org.springframework.data.repository.CrudRepository;
 
 import java.util.Optional;
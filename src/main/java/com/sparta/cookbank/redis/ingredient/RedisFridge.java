@@ -0,0 +1,20 @@
+package com.sparta.cookbank.redis.ingredient;
+
+import com.sparta.cookbank.domain.myingredients.FridgeItem;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.redis.core.RedisHash;
+
+import javax.persistence.Id;
+import java.util.List;
+
+@Getter
+@Builder
+@RedisHash(value = "fridge", timeToLive = 604800) // 7일, 재료 추가/삭제/요리 완료 시 바로 삭제
+public class RedisFridge {
+
+    @Id
+    private String id; // 회원 id
+    private List<FridgeItem> items; // 날짜는 epoch day (D-day 는 조회할 때 계산)
+
+}
@@ -0,0 +1,7 @@
+package com.sparta.cookbank.redis.ingredient;
+
+import org.springframework.data.repository.CrudRepository;
+
+public interface RedisFridgeRepo extends CrudRepository<RedisFridge, String> {
+
+}
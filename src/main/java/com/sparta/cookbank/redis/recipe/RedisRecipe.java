@@ -16,5 +16,6 @@ public class RedisRecipe {
     @Id
     private String id;
     private List<RecipeRecommendDto> recipes;
+    private String nextCursor;
 
 }
@@ -4,6 +4,8 @@ import com.sparta.cookbank.domain.LikeRecipe;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,4 +16,7 @@ public interface LikeRecipeRepository extends JpaRepository<LikeRecipe, Long>{
     Optional<LikeRecipe> findByMember_IdAndRecipe_IdOrderByRecipe(Long memberId, Long recipeId);
     Page<LikeRecipe> findByMember_Id(Long memberId, Pageable pageable);
 
+    @Query("select l.recipe.id from LikeRecipe l where l.member.id = :memberId")
+    List<Long> findRecipeIdsByMemberId(@Param("memberId") Long memberId);
+
 }
@@ -1,14 +1,14 @@
 package com.sparta.cookbank.repository;
 
-import com.sparta.cookbank.domain.Storage;
 import com.sparta.cookbank.domain.myingredients.MyIngredients;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface MyIngredientsRepository extends JpaRepository<MyIngredients, Long> {
-    List<MyIngredients> findByMemberIdAndStorageOrderByExpDate(Long id, Storage storage);
-
-    List<MyIngredients> findAllByMemberId(Long id);
-    List<MyIngredients> findAllByMemberIdOrderByExpDate(Long id);
+    // 냉장고 스냅샷용 (식재료 정보까지 한 번에)
+    @Query("select m from MyIngredients m join fetch m.ingredient where m.member.id = :memberId order by m.expDate")
+    List<MyIngredients> findFridgeByMemberId(@Param("memberId") Long memberId);
 }
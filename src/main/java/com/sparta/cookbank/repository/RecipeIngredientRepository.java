@@ -0,0 +1,34 @@
+package com.sparta.cookbank.repository;
+
+import com.sparta.cookbank.domain.recipe.RecipeIngredient;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface RecipeIngredientRepository extends JpaRepository<RecipeIngredient, Long> {
+
+    // 재료 색인용 (레시피 id, 토큰) 만 조회
+    @Query("select ri.recipe.id as recipeId, ri.token as token from RecipeIngredient ri")
+    List<RecipeTokenView> findAllTokens();
+
+    // 아직 재료가 분리되지 않은 레시피 (백필 대상)
+    @Query("select r.id from Recipe r where not exists (select ri.id from RecipeIngredient ri where ri.recipe.id = r.id)")
+    List<Long> findRecipeIdsWithoutIngredients();
+
+    @Modifying
+    @Query("delete from RecipeIngredient ri where ri.recipe.id = :recipeId")
+    void deleteAllByRecipeId(@Param("recipeId") Long recipeId);
+
+    @Modifying
+    @Query("delete from RecipeIngredient ri where ri.recipe.id in :recipeIds")
+    void deleteAllByRecipeIdIn(@Param("recipeIds") Collection<Long> recipeIds);
+
+    interface RecipeTokenView {
+        Long getRecipeId();
+        String getToken();
+    }
+}
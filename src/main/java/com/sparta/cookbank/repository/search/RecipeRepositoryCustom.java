@@ -1,19 +1,32 @@
 
 package com.sparta.cookbank.repository.search;
 
-import com.sparta.cookbank.domain.recipe.Recipe;
 import com.sparta.cookbank.domain.recipe.dto.RecipeByCategoryRequestDto;
-import com.sparta.cookbank.domain.recipe.dto.RecipeRecommendRequestDto;
-import com.sparta.cookbank.domain.recipe.dto.RecipeSearchRequestDto;
+import com.sparta.cookbank.domain.recipe.dto.RecipeSummaryDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface RecipeRepositoryCustom {
-    Page<Recipe> findBySearchOption(RecipeSearchRequestDto searchRequestDto, Pageable pageable);
+    Page<RecipeSummaryDto> findAllRecipe(Pageable pageable);
 
-    List<Recipe> findByRecommendRecipeOption(String baseName);
+    Slice<RecipeSummaryDto> findAllRecipeSlice(Pageable pageable);
+
+    Page<RecipeSummaryDto> findByCategoryRecipeOption(RecipeByCategoryRequestDto requestDto, Pageable pageable);
+
+    Slice<RecipeSummaryDto> findByCategoryRecipeOptionSlice(RecipeByCategoryRequestDto requestDto, Pageable pageable);
+
+    List<RecipeSummaryDto> findAllAfter(Long afterId, int limit);
+
+    List<RecipeSummaryDto> findByCategoryRecipeOptionAfter(RecipeByCategoryRequestDto requestDto, Long afterId, int limit);
+
+    List<RecipeSummaryDto> findSummariesByIdIn(Collection<Long> recipeIds);
+
+    List<RecipeSummaryDto> findBookmarkSummaries(Long memberId, long offset, int limit);
+
+    List<RecipeSummaryDto> findBookmarkSummariesAfter(Long memberId, Long afterBookmarkId, int limit);
 
-    Page<Recipe> findByCategoryRecipeOption(RecipeByCategoryRequestDto requestDto, Pageable pageable);
 }
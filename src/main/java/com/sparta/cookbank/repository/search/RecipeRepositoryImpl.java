@@ -1,27 +1,37 @@
 package com.sparta.cookbank.repository.search;
 
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.sparta.cookbank.domain.recipe.Recipe;
 import com.sparta.cookbank.domain.recipe.dto.RecipeByCategoryRequestDto;
-import com.sparta.cookbank.domain.recipe.dto.RecipeRecommendRequestDto;
-import com.sparta.cookbank.domain.recipe.dto.RecipeSearchRequestDto;
+import com.sparta.cookbank.domain.recipe.dto.RecipeSummaryDto;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.data.support.PageableExecutionUtils;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
 
+import static com.sparta.cookbank.domain.QLikeRecipe.likeRecipe;
+import static com.sparta.cookbank.domain.member.QMember.member;
 import static com.sparta.cookbank.domain.recipe.QRecipe.recipe;
 
 public class RecipeRepositoryImpl extends QuerydslRepositorySupport implements RecipeRepositoryCustom {
 
+    // 목록 화면에 보여주는 컬럼만 (조리법 12개 컬럼, RCP_PARTS_DTLS 제외)
+    private static final ConstructorExpression<RecipeSummaryDto> SUMMARY = Projections.constructor(RecipeSummaryDto.class,
+            recipe.id, recipe.RCP_NM, recipe.MAIN_INGREDIENTS, recipe.ATT_FILE_NO_MK, recipe.RCP_WAY2, recipe.RCP_PAT2, recipe.INFO_ENG);
+
+    private static final ConstructorExpression<RecipeSummaryDto> BOOKMARK_SUMMARY = Projections.constructor(RecipeSummaryDto.class,
+            likeRecipe.id, member.username, recipe.id, recipe.RCP_NM, recipe.MAIN_INGREDIENTS, recipe.ATT_FILE_NO_MK, recipe.RCP_WAY2, recipe.RCP_PAT2, recipe.INFO_ENG);
+
     @Autowired
     private JPAQueryFactory queryFactory; // JPAQueryFactory 빈 주입
 
@@ -29,32 +39,130 @@ public class RecipeRepositoryImpl extends QuerydslRepositorySupport implements R
         super(Recipe.class);
     }
 
-    @Override // 검색쿼리
-    public Page<Recipe> findBySearchOption(RecipeSearchRequestDto searchRequestDto, Pageable pageable) {
-        JPQLQuery<Recipe> query = queryFactory
-                .selectFrom(recipe)
-                .where(eqName(searchRequestDto));
-        List<Recipe> recipes = Objects.requireNonNull(this.getQuerydsl()).applyPagination(pageable, query).fetch();
-        return new PageImpl<>(recipes, pageable, query.fetchCount());
+    @Override // 전체 조회
+    public Page<RecipeSummaryDto> findAllRecipe(Pageable pageable) {
+        List<RecipeSummaryDto> recipes = fetchPage(null, pageable);
+        return PageableExecutionUtils.getPage(recipes, pageable, () -> count(null));
+    }
+
+    @Override // 전체 조회 (count 없이 다음 페이지 여부만)
+    public Slice<RecipeSummaryDto> findAllRecipeSlice(Pageable pageable) {
+        return fetchSlice(null, pageable);
     }
 
     @Override
-    public List<Recipe> findByRecommendRecipeOption(String baseName) {
-        JPQLQuery<Recipe> query = queryFactory
-                .selectFrom(recipe)
-                .where(eqBaseName(baseName));
+    public Page<RecipeSummaryDto> findByCategoryRecipeOption(RecipeByCategoryRequestDto requestDto, Pageable pageable) {
+        BooleanExpression condition = eqCategory(requestDto);
+        List<RecipeSummaryDto> recipeList = fetchPage(condition, pageable);
+        return PageableExecutionUtils.getPage(recipeList, pageable, () -> count(condition));
+    }
 
-        return query.fetch();
+    @Override
+    public Slice<RecipeSummaryDto> findByCategoryRecipeOptionSlice(RecipeByCategoryRequestDto requestDto, Pageable pageable) {
+        return fetchSlice(eqCategory(requestDto), pageable);
+    }
+
+    @Override // 색인에서 뽑은 id들의 목록용 컬럼만 (순서는 호출하는 쪽에서 맞춘다)
+    public List<RecipeSummaryDto> findSummariesByIdIn(Collection<Long> recipeIds) {
+        if (recipeIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return queryFactory
+                .select(SUMMARY)
+                .from(recipe)
+                .where(recipe.id.in(recipeIds))
+                .fetch();
+    }
+
+    @Override // 회원의 북마크 레시피 (북마크 순서, offset부터 limit개)
+    public List<RecipeSummaryDto> findBookmarkSummaries(Long memberId, long offset, int limit) {
+        return queryFactory
+                .select(BOOKMARK_SUMMARY)
+                .from(likeRecipe)
+                .join(likeRecipe.recipe, recipe)
+                .join(likeRecipe.member, member)
+                .where(likeRecipe.member.id.eq(memberId))
+                .orderBy(likeRecipe.id.asc())
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override // 북마크 커서 조회 (afterBookmarkId 다음부터 limit개)
+    public List<RecipeSummaryDto> findBookmarkSummariesAfter(Long memberId, Long afterBookmarkId, int limit) {
+        return queryFactory
+                .select(BOOKMARK_SUMMARY)
+                .from(likeRecipe)
+                .join(likeRecipe.recipe, recipe)
+                .join(likeRecipe.member, member)
+                .where(likeRecipe.member.id.eq(memberId), afterBookmarkId == null ? null : likeRecipe.id.gt(afterBookmarkId))
+                .orderBy(likeRecipe.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private List<RecipeSummaryDto> fetchPage(BooleanExpression condition, Pageable pageable) {
+        JPQLQuery<RecipeSummaryDto> query = queryFactory
+                .select(SUMMARY)
+                .from(recipe)
+                .where(condition);
+        return Objects.requireNonNull(this.getQuerydsl()).applyPagination(pageable, query).fetch();
+    }
+
+    // size+1개를 조회해서 다음 페이지 여부만 판단 (count 쿼리 없음)
+    private Slice<RecipeSummaryDto> fetchSlice(BooleanExpression condition, Pageable pageable) {
+        JPQLQuery<RecipeSummaryDto> query = queryFactory
+                .select(SUMMARY)
+                .from(recipe)
+                .where(condition)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L);
+        List<RecipeSummaryDto> recipes = Objects.requireNonNull(this.getQuerydsl()).applySorting(pageable.getSort(), query).fetch();
+        boolean hasNext = recipes.size() > pageable.getPageSize();
+        if (hasNext) {
+            recipes = recipes.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(recipes, pageable, hasNext);
+    }
+
+    // 정렬 조건이 있는 요청이나 카탈로그 적재 전에만 쓰인다. (그 외에는 카탈로그 / count=false 경로)
+    private long count(BooleanExpression condition) {
+        Long count = queryFactory
+                .select(recipe.count())
+                .from(recipe)
+                .where(condition)
+                .fetchOne();
+        return count == null ? 0 : count;
+    }
+
+    @Override // 커서 조회 (id 오름차순, afterId 다음부터 limit개)
+    public List<RecipeSummaryDto> findAllAfter(Long afterId, int limit) {
+        return queryFactory
+                .select(SUMMARY)
+                .from(recipe)
+                .where(gtId(afterId))
+                .orderBy(recipe.id.asc())
+                .limit(limit)
+                .fetch();
     }
 
     @Override
-    public Page<Recipe> findByCategoryRecipeOption(RecipeByCategoryRequestDto requestDto, Pageable pageable) {
-        JPQLQuery<Recipe> query = queryFactory
-                .selectFrom(recipe)
-                .where(eqCategory(requestDto));
+    public List<RecipeSummaryDto> findByCategoryRecipeOptionAfter(RecipeByCategoryRequestDto requestDto, Long afterId, int limit) {
+        return queryFactory
+                .select(SUMMARY)
+                .from(recipe)
+                .where(eqCategory(requestDto), gtId(afterId))
+                .orderBy(recipe.id.asc())
+                .limit(limit)
+                .fetch();
+    }
 
-        List<Recipe> recipeList = Objects.requireNonNull(this.getQuerydsl()).applyPagination(pageable, query).fetch();
-        return new PageImpl<>(recipeList, pageable, query.fetchCount());
+    // 커서 조건 (첫 페이지는 조건 없음)
+    private BooleanExpression gtId(Long afterId) {
+        if (afterId == null) {
+            return null;
+        }
+        return recipe.id.gt(afterId);
     }
 
     private BooleanExpression eqCategory(RecipeByCategoryRequestDto requestDto) {
@@ -70,21 +178,4 @@ public class RecipeRepositoryImpl extends QuerydslRepositorySupport implements R
         }
         return (Boolean.TRUE.equals(condition))? recipe.RCP_WAY2.eq(requestDto.getCategory()) : recipe.RCP_PAT2.eq(requestDto.getCategory());
     }
-
-    // 검색 조건
-    private BooleanExpression eqName(RecipeSearchRequestDto requestDto) {
-        if (requestDto.getRecipe_name() == null || requestDto.getRecipe_name().isEmpty()) {
-            throw new InvalidDataAccessApiUsageException("검색어를 입력해주세요!");
-        }
-
-        return recipe.RCP_NM.containsIgnoreCase(requestDto.getRecipe_name());
-    }
-
-    // 추천 레시피 Baes 조건
-    private BooleanExpression eqBaseName(String baseName) {
-        if (baseName == null || baseName.isEmpty()) {
-            return null;
-        }
-        return recipe.RCP_PARTS_DTLS.containsIgnoreCase(baseName);
-    }
 }
@@ -0,0 +1,207 @@
+package com.sparta.cookbank.service;
+
+import com.sparta.cookbank.repository.LikeRecipeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+
+// 회원별 북마크 Redis set (조회/토글은 Redis 에서 바로, DB 반영은 모아서 나중에)
+// bookmark:{회원 id} = 북마크한 레시피 id set, bookmark:pending = DB 에 반영할 변경 목록
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookmarkStore {
+
+    private static final String KEY_PREFIX = "bookmark:";
+    private static final String PENDING_KEY = "bookmark:pending";
+    // 여러 서버가 같은 변경 목록 앞부분을 동시에 반영/삭제하지 않도록 flush 중에 잡는 잠금
+    private static final String FLUSH_LOCK_KEY = "bookmark:pending:lock";
+    private static final Duration FLUSH_LOCK_TTL = Duration.ofSeconds(30);
+    // 빈 set 은 Redis 에 남지 않으므로 "DB 에서 불러옴" 표시로 항상 넣어 두는 값 (레시피 id 는 1부터)
+    private static final String LOADED = "0";
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    // set 이 없으면 -1 (DB 에서 불러온 뒤 다시 시도), 바뀌었을 때만 변경 목록에 추가
+    private static final RedisScript<Long> TOGGLE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+            "local changed " +
+            "if ARGV[2] == '+' then changed = redis.call('SADD', KEYS[1], ARGV[1]) " +
+            "else changed = redis.call('SREM', KEYS[1], ARGV[1]) end " +
+            "if changed == 1 then redis.call('RPUSH', KEYS[2], ARGV[3]) end " +
+            "return changed", Long.class);
+
+    // 잠금이 아직 내 것일 때만 반영한 만큼 목록에서 지우고 잠금을 푼다. (만료돼 다른 서버가 잡았으면 0, 목록은 그대로)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end " +
+            "if tonumber(ARGV[2]) > 0 then redis.call('LTRIM', KEYS[2], ARGV[2], -1) end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "return 1", Long.class);
+
+    private static final String UPSERT_SQL = "insert into like_recipe (member_id, recipe_id, created_at, modified_at) " +
+            "values (?, ?, ?, ?) on duplicate key update modified_at = modified_at";
+    private static final String DELETE_SQL = "delete from like_recipe where member_id = ? and recipe_id = ?";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final LikeRecipeRepository likeRecipeRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // 새로 북마크했으면 true, 이미 북마크돼 있으면 false
+    public boolean add(Long memberId, Long recipeId) {
+        return toggle(memberId, recipeId, "+");
+    }
+
+    // 북마크를 지웠으면 true, 원래 없었으면 false
+    public boolean remove(Long memberId, Long recipeId) {
+        return toggle(memberId, recipeId, "-");
+    }
+
+    public Set<Long> findRecipeIds(Long memberId) {
+        Set<String> members = stringRedisTemplate.opsForSet().members(load(memberId));
+        Set<Long> recipeIds = new HashSet<>();
+        if (members != null) {
+            for (String member : members) {
+                if (!LOADED.equals(member)) {
+                    recipeIds.add(Long.valueOf(member));
+                }
+            }
+        }
+        return recipeIds;
+    }
+
+    // Redis set 에는 있지만 아직 like_recipe 에 반영되지 않은 레시피 id (id 순)
+    public List<Long> findUnflushedRecipeIds(Long memberId, Set<Long> recipeIds) {
+        if (recipeIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> unflushed = new ArrayList<>(recipeIds);
+        unflushed.removeAll(new HashSet<>(likeRecipeRepository.findRecipeIdsByMemberId(memberId)));
+        Collections.sort(unflushed);
+        return unflushed;
+    }
+
+    public boolean contains(Long memberId, Long recipeId) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForSet().isMember(load(memberId), String.valueOf(recipeId)));
+    }
+
+    private boolean toggle(Long memberId, Long recipeId, String op) {
+        String key = KEY_PREFIX + memberId;
+        List<String> keys = List.of(key, PENDING_KEY);
+        String entry = memberId + ":" + recipeId + ":" + op;
+        Long changed = stringRedisTemplate.execute(TOGGLE_SCRIPT, keys, String.valueOf(recipeId), op, entry);
+        if (changed != null && changed < 0) {
+            load(memberId);
+            changed = stringRedisTemplate.execute(TOGGLE_SCRIPT, keys, String.valueOf(recipeId), op, entry);
+        }
+        return changed != null && changed == 1;
+    }
+
+    // 처음 보는 회원이면 DB 북마크로 set 을 만든다. 임시 key 에 만든 뒤 RENAMENX 로 옮겨서
+    // 동시에 불러와도 먼저 만들어진 set (과 그 사이의 토글) 을 덮어쓰지 않음
+    private String load(Long memberId) {
+        String key = KEY_PREFIX + memberId;
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(key))) {
+            return key;
+        }
+        List<String> members = new ArrayList<>();
+        members.add(LOADED);
+        for (Long recipeId : likeRecipeRepository.findRecipeIdsByMemberId(memberId)) {
+            members.add(String.valueOf(recipeId));
+        }
+        String loadingKey = key + ":loading:" + UUID.randomUUID();
+        stringRedisTemplate.opsForSet().add(loadingKey, members.toArray(new String[0]));
+        if (!Boolean.TRUE.equals(stringRedisTemplate.renameIfAbsent(loadingKey, key))) {
+            stringRedisTemplate.delete(loadingKey);
+        }
+        return key;
+    }
+
+    // 변경 목록을 앞에서부터 모아 DB 에 반영. 반영한 뒤에 목록에서 지우므로 중간에 실패하면 다음에 다시 반영 (멱등)
+    // 잠금을 잡은 서버 하나만 반영하고, 지우는 것도 잠금이 그대로일 때만 한다.
+    @Scheduled(fixedDelay = 1000)
+    public void flush() {
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(FLUSH_LOCK_KEY, token, FLUSH_LOCK_TTL))) {
+            return;
+        }
+        int applied = 0;
+        try {
+            applied = apply();
+        } finally {
+            Long released = stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(FLUSH_LOCK_KEY, PENDING_KEY),
+                    token, String.valueOf(applied));
+            if (released == null || released == 0) {
+                log.warn("북마크 반영 중 잠금 만료, 반영한 {}건은 다음 주기에 다시 반영", applied);
+            }
+        }
+    }
+
+    // 반영한 변경 개수
+    private int apply() {
+        List<String> entries = stringRedisTemplate.opsForList().range(PENDING_KEY, 0, FLUSH_BATCH_SIZE - 1);
+        if (entries == null || entries.isEmpty()) {
+            return 0;
+        }
+
+        // 같은 (회원, 레시피) 는 마지막 동작만, 순서는 마지막 동작 기준 (북마크 id 순서 = 북마크한 순서)
+        Map<String, String> lastOps = new LinkedHashMap<>();
+        for (String entry : entries) {
+            int split = entry.lastIndexOf(':');
+            String pair = entry.substring(0, split);
+            lastOps.remove(pair);
+            lastOps.put(pair, entry.substring(split + 1));
+        }
+        Date today = Date.valueOf(LocalDate.now());
+        List<Object[]> upserts = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+        for (Map.Entry<String, String> lastOp : lastOps.entrySet()) {
+            String[] ids = lastOp.getKey().split(":");
+            Long memberId = Long.valueOf(ids[0]);
+            Long recipeId = Long.valueOf(ids[1]);
+            if ("+".equals(lastOp.getValue())) {
+                upserts.add(new Object[]{memberId, recipeId, today, today});
+            } else {
+                deletes.add(new Object[]{memberId, recipeId});
+            }
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!deletes.isEmpty()) {
+                    jdbcTemplate.batchUpdate(DELETE_SQL, deletes);
+                }
+                if (!upserts.isEmpty()) {
+                    jdbcTemplate.batchUpdate(UPSERT_SQL, upserts);
+                }
+            });
+        } catch (DataAccessException e) {
+            // 탈퇴한 회원 / 삭제된 레시피 등 한 건 때문에 목록 전체가 막히지 않도록 한 건씩 반영하고 실패한 건은 버림
+            log.warn("북마크 일괄 반영 실패, 한 건씩 반영: {}", e.getMessage());
+            applyEach(DELETE_SQL, deletes);
+            applyEach(UPSERT_SQL, upserts);
+        }
+        return entries.size();
+    }
+
+    private void applyEach(String sql, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            try {
+                jdbcTemplate.update(sql, row);
+            } catch (DataAccessException e) {
+                log.warn("북마크 반영 제외: 회원 {}, 레시피 {} ({})", row[0], row[1], e.getMessage());
+            }
+        }
+    }
+}
@@ -1,15 +1,15 @@
 package com.sparta.cookbank.service;
 
 import com.sparta.cookbank.ResponseDto;
-import com.sparta.cookbank.domain.LikeRecipe;
 import com.sparta.cookbank.domain.calendar.Calendar;
 import com.sparta.cookbank.domain.calendar.dto.*;
 import com.sparta.cookbank.domain.member.Member;
 import com.sparta.cookbank.domain.recipe.Recipe;
+import com.sparta.cookbank.index.CatalogRecipe;
+import com.sparta.cookbank.index.RecipeCatalog;
 import com.sparta.cookbank.redis.calendar.RedisDayCalendar;
 import com.sparta.cookbank.redis.calendar.RedisDayCalendarRepo;
 import com.sparta.cookbank.repository.CalendarRepository;
-import com.sparta.cookbank.repository.LikeRecipeRepository;
 import com.sparta.cookbank.repository.MemberRepository;
 import com.sparta.cookbank.repository.RecipeRepository;
 import com.sparta.cookbank.security.SecurityUtil;
@@ -28,13 +28,16 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class CalendarService {
 
     private final RecipeRepository recipeRepository;
-    private final LikeRecipeRepository likeRecipeRepository;
+    private final RecipeCatalog recipeCatalog;
+    private final LikedRecipeResolver likedRecipeResolver;
+    private final RecipePopularity recipePopularity;
     private final MemberRepository memberRepository;
     private final TokenProvider tokenProvider;
     private final CalendarRepository calendarRepository;
@@ -104,11 +107,8 @@ public class CalendarService {
 
 
         //레시피
-        Optional<Recipe> recipeOptional = recipeRepository.findById(requestDto.getRecipe_id());
-        if (recipeOptional.isEmpty()){
-            throw new NullPointerException("해당 레시피를 잘못 입력 하셨습니다.");
-        }
-        Recipe recipe = recipeOptional.get();
+        CatalogRecipe catalogRecipe = findRecipe(requestDto.getRecipe_id());
+        Recipe recipe = recipeRepository.getReferenceById(catalogRecipe.getId());
 
         Calendar calendar = Calendar.builder()
                 .member(member)
@@ -117,25 +117,22 @@ public class CalendarService {
                 .mealDivision(requestDto.getCategory())
                 .build();
         calendarRepository.save(calendar);
+        recipePopularity.record(catalogRecipe.getId(), RecipePopularity.CALENDAR);
 
         //북마크 확인하기
-        boolean liked = false;
-        LikeRecipe likedRecipe = likeRecipeRepository.findByMember_IdAndRecipe_Id(member.getId(), recipe.getId());
-        if (!(likedRecipe == null)) {
-            liked = true;
-        }
+        boolean liked = likedRecipeResolver.isLiked(member.getId(), recipe.getId());
 
 
         CalendarResponseDto calendarResponseDto = CalendarResponseDto.builder()
                 .id(calendar.getId())
                 .recipe_id(calendar.getRecipe().getId())
-                .recipe_name(calendar.getRecipe().getRCP_NM())
+                .recipe_name(catalogRecipe.getRecipeName())
                 .time(calendar.getMealDivision().toString())
                 .day(calendar.getMealDay())
                 .liked(liked)
-                .category(calendar.getRecipe().getRCP_PAT2())
-                .calorie(calendar.getRecipe().getINFO_ENG())
-                .method(calendar.getRecipe().getRCP_WAY2())
+                .category(catalogRecipe.getCategory())
+                .calorie(catalogRecipe.getCalorie())
+                .method(catalogRecipe.getMethod())
                 .build();
 
         CalendarMealsDto calendarMealsDto = CalendarMealsDto.builder()
@@ -169,11 +166,8 @@ public class CalendarService {
 
 
         // Request 에서 레시피에서 찾아야됨
-        Optional<Recipe> recipeOptional = recipeRepository.findById(requestDto.getRecipe_id());
-        if (recipeOptional.isEmpty()){
-            throw new NullPointerException("해당 레시피를 잘못 입력 하셨습니다.");
-        }
-        Recipe recipe = recipeOptional.get();
+        CatalogRecipe catalogRecipe = findRecipe(requestDto.getRecipe_id());
+        Recipe recipe = recipeRepository.getReferenceById(catalogRecipe.getId());
 
         String beforeDay = calendar.getMealDay();
 
@@ -190,23 +184,19 @@ public class CalendarService {
 
 
         //북마크 확인하기
-        boolean liked = false;
-        LikeRecipe likedRecipe = likeRecipeRepository.findByMember_IdAndRecipe_Id(member.getId(),recipe.getId());
-        if(!(likedRecipe==null)){
-            liked = true;
-        }
+        boolean liked = likedRecipeResolver.isLiked(member.getId(), recipe.getId());
 
 
         CalendarResponseDto calendarResponseDto = CalendarResponseDto.builder()
                 .id(calendar.getId())
                 .recipe_id(calendar.getRecipe().getId())
-                .recipe_name(calendar.getRecipe().getRCP_NM())
+                .recipe_name(catalogRecipe.getRecipeName())
                 .time(calendar.getMealDivision().toString())
                 .day(calendar.getMealDay())
                 .liked(liked)
-                .category(calendar.getRecipe().getRCP_PAT2())
-                .calorie(calendar.getRecipe().getINFO_ENG())
-                .method(calendar.getRecipe().getRCP_WAY2())
+                .category(catalogRecipe.getCategory())
+                .calorie(catalogRecipe.getCalorie())
+                .method(catalogRecipe.getMethod())
                 .build();
 
         CalendarMealsDto calendarMealsDto = CalendarMealsDto.builder()
@@ -235,30 +225,22 @@ public class CalendarService {
             throw new RuntimeException("타인의 캘린더를 삭제할 수 없습니다.");
         }
 
-        Optional<Recipe> recipeOptional = recipeRepository.findById(calendar.getRecipe().getId());
-        if (recipeOptional.isEmpty()){
-            throw new NullPointerException("해당 레시피를 잘못 입력 하셨습니다.");
-        }
-        Recipe recipe = recipeOptional.get();
+        CatalogRecipe recipe = findRecipe(calendar.getRecipe().getId());
 
 
         //북마크 확인하기
-        boolean liked = false;
-        LikeRecipe likedRecipe = likeRecipeRepository.findByMember_IdAndRecipe_Id(member.getId(),recipe.getId());
-        if(!(likedRecipe==null)){
-            liked = true;
-        }
+        boolean liked = likedRecipeResolver.isLiked(member.getId(), recipe.getId());
 
         CalendarResponseDto calendarResponseDto = CalendarResponseDto.builder()
                 .id(calendar.getId())
                 .recipe_id(calendar.getRecipe().getId())
-                .recipe_name(calendar.getRecipe().getRCP_NM())
+                .recipe_name(recipe.getRecipeName())
                 .time(calendar.getMealDivision().toString())
                 .day(calendar.getMealDay())
                 .liked(liked)
-                .category(calendar.getRecipe().getRCP_PAT2())
-                .calorie(calendar.getRecipe().getINFO_ENG())
-                .method(calendar.getRecipe().getRCP_WAY2())
+                .category(recipe.getCategory())
+                .calorie(recipe.getCalorie())
+                .method(recipe.getMethod())
                 .build();
         CalendarMealsDto calendarMealsDto = CalendarMealsDto.builder()
                 .meals(calendarResponseDto)
@@ -354,32 +336,25 @@ public class CalendarService {
 
         List<Calendar> calendarList = calendarRepository.findAllByMember_Id(member.getId());
         List<CalendarResponseDto> dtoList = new ArrayList<>();
+        Set<Long> likedIds = findLikedRecipeIds(member, calendarList);
         for(int i = 0 ; i < calendarList.size() ; i++){
 
             //나의 레시피 찾기
-            Optional<Recipe> recipeOptional = recipeRepository.findById(calendarList.get(i).getRecipe().getId());
-            if (recipeOptional.isEmpty()){
-                throw new NullPointerException("해당 레시피를 잘못 입력 하셨습니다.");
-            }
-            Recipe recipe = recipeOptional.get();
+            CatalogRecipe recipe = findRecipe(calendarList.get(i).getRecipe().getId());
 
             //북마크 확인하기
-            boolean liked = false;
-            LikeRecipe likedRecipe = likeRecipeRepository.findByMember_IdAndRecipe_Id(member.getId(),recipe.getId());
-            if(!(likedRecipe==null)){
-                liked = true;
-            }
+            boolean liked = likedIds.contains(recipe.getId());
 
             dtoList.add(CalendarResponseDto.builder()
                     .id(calendarList.get(i).getId())
                     .recipe_id(calendarList.get(i).getRecipe().getId())
-                    .recipe_name(calendarList.get(i).getRecipe().getRCP_NM())
+                    .recipe_name(recipe.getRecipeName())
                     .time(calendarList.get(i).getMealDivision().toString())
                     .day(calendarList.get(i).getMealDay())
                     .liked(liked)
-                    .category(calendarList.get(i).getRecipe().getRCP_PAT2())
-                    .calorie(calendarList.get(i).getRecipe().getINFO_ENG())
-                    .method(calendarList.get(i).getRecipe().getRCP_WAY2())
+                    .category(recipe.getCategory())
+                    .calorie(recipe.getCalorie())
+                    .method(recipe.getMethod())
                     .build());
         }
 
@@ -420,37 +395,45 @@ public class CalendarService {
 
     private List<CalendarResponseDto> getCalendar(String day, Member member, List<CalendarResponseDto> dtoList) {
         List<Calendar> calendarList = calendarRepository.findAllByMealDayAndMember_Id(day, member.getId());
+        Set<Long> likedIds = findLikedRecipeIds(member, calendarList);
 
         for(int i = 0 ; i < calendarList.size() ; i++){
 
             //나의 레시피 찾기
-            Optional<Recipe> recipeOptional = recipeRepository.findById(calendarList.get(i).getRecipe().getId());
-            if (recipeOptional.isEmpty()){
-                throw new NullPointerException("해당 레시피를 잘못 입력 하셨습니다.");
-            }
-            Recipe recipe = recipeOptional.get();
-
+            CatalogRecipe recipe = findRecipe(calendarList.get(i).getRecipe().getId());
 
             //북마크 확인하기
-            boolean liked = false;
-            LikeRecipe likedRecipe = likeRecipeRepository.findByMember_IdAndRecipe_Id(member.getId(),recipe.getId());
-            if(!(likedRecipe==null)){
-                liked = true;
-            }
+            boolean liked = likedIds.contains(recipe.getId());
 
             dtoList.add(CalendarResponseDto.builder()
                     .id(calendarList.get(i).getId())
                     .recipe_id(calendarList.get(i).getRecipe().getId())
-                    .recipe_name(calendarList.get(i).getRecipe().getRCP_NM())
+                    .recipe_name(recipe.getRecipeName())
                     .time(calendarList.get(i).getMealDivision().toString())
                     .day(calendarList.get(i).getMealDay())
                     .liked(liked)
-                    .category(calendarList.get(i).getRecipe().getRCP_PAT2())
-                    .calorie(calendarList.get(i).getRecipe().getINFO_ENG())
-                    .method(calendarList.get(i).getRecipe().getRCP_WAY2())
+                    .category(recipe.getCategory())
+                    .calorie(recipe.getCalorie())
+                    .method(recipe.getMethod())
                     .build());
         }
         return dtoList;
     }
 
+    // 레시피 카탈로그에서 조회 (DB 조회 없음)
+    private CatalogRecipe findRecipe(Long recipeId) {
+        return recipeCatalog.find(recipeId).orElseThrow(
+                () -> new NullPointerException("해당 레시피를 잘못 입력 하셨습니다.")
+        );
+    }
+
+    // 캘린더에 담긴 레시피들의 북마크 여부를 한 번에 조회
+    private Set<Long> findLikedRecipeIds(Member member, List<Calendar> calendarList) {
+        List<Long> recipeIds = new ArrayList<>();
+        for (Calendar calendar : calendarList) {
+            recipeIds.add(calendar.getRecipe().getId());
+        }
+        return likedRecipeResolver.findLikedRecipeIds(member.getId(), recipeIds);
+    }
+
 }
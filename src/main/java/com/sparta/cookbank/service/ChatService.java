@@ -14,9 +14,10 @@ import com.sparta.cookbank.domain.recipe.dto.RecipeBasicDto;
 import com.sparta.cookbank.domain.room.ChatRoom;
 import com.sparta.cookbank.domain.room.Room;
 import com.sparta.cookbank.domain.room.dto.*;
+import com.sparta.cookbank.index.CatalogRecipe;
+import com.sparta.cookbank.index.RecipeCatalog;
 import com.sparta.cookbank.repository.ChatRoomRepository;
 import com.sparta.cookbank.repository.MemberRepository;
-import com.sparta.cookbank.repository.RecipeRepository;
 import com.sparta.cookbank.repository.RoomRepository;
 import com.sparta.cookbank.security.SecurityUtil;
 import io.openvidu.java.client.*;
@@ -33,7 +34,7 @@ import javax.annotation.PostConstruct;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 @Slf4j
@@ -45,7 +46,7 @@ public class ChatService {
 
     private final MemberRepository memberRepository;
 
-    private final RecipeRepository recipeRepository;
+    private final RecipeCatalog recipeCatalog;
 
     private final AmazonS3Client amazonS3Client;
 
@@ -81,7 +82,7 @@ public class ChatService {
         Member member = memberRepository.findById(SecurityUtil.getCurrentMemberId()).orElseThrow(() -> {
             throw new IllegalArgumentException("로그인한 유저를 찾을 수 없습니다.");
         });
-        Recipe recipe = recipeRepository.findById(requestDto.getRecipe_id()).orElseThrow(() -> {
+        Recipe recipe = recipeCatalog.findReference(requestDto.getRecipe_id()).orElseThrow(() -> {
             throw new IllegalArgumentException("해당 레시피를 찾을 수 없습니다.");
         });
         //새로운 비디오방 생성
@@ -182,7 +183,9 @@ public class ChatService {
                         .class_name(room.getName())
                         .viewer_nums(room.getViewrs())
                         .class_img(room.getImage())
-                        .ingredients(Arrays.asList(room.getRecipe().getMAIN_INGREDIENTS().split(", ")))
+                        .ingredients(new ArrayList<>(recipeCatalog.find(room.getRecipe().getId())
+                                .map(CatalogRecipe::getMainIngredients)
+                                .orElse(Collections.emptyList())))
                         .build());
             }
         }
@@ -221,16 +224,17 @@ public class ChatService {
         Room room = roomRepository.findById(classId).orElseThrow(() -> {
             throw new IllegalArgumentException("해당 클래스를 찾을 수 없습니다.");
         });
-        Recipe recipe = room.getRecipe();
-        List<String> ingredients = Arrays.asList(recipe.getRCP_PARTS_DTLS().split(","));
+        CatalogRecipe recipe = recipeCatalog.find(room.getRecipe().getId()).orElseThrow(() -> {
+            throw new IllegalArgumentException("해당 레시피를 찾을 수 없습니다.");
+        });
         return new RoomInfoResponseDto(room.getName(), RecipeBasicDto.builder()
                 .id(recipe.getId())
-                .recipe_name(recipe.getRCP_NM())
-                .ingredients(ingredients)
-                .final_img(recipe.getATT_FILE_NO_MK())
-                .method(recipe.getRCP_WAY2())
-                .category(recipe.getRCP_PAT2())
-                .calorie(recipe.getINFO_ENG())
+                .recipe_name(recipe.getRecipeName())
+                .ingredients(new ArrayList<>(recipe.getIngredients()))
+                .final_img(recipe.getFinalImg())
+                .method(recipe.getMethod())
+                .category(recipe.getCategory())
+                .calorie(recipe.getCalorie())
                 .build());
     }
 
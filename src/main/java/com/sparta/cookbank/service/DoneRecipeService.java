@@ -7,7 +7,7 @@ import com.sparta.cookbank.domain.myingredients.MyIngredients;
 import com.sparta.cookbank.domain.recipe.Recipe;
 import com.sparta.cookbank.domain.recipe.dto.RecipeFixRequestDto;
 import com.sparta.cookbank.domain.recipe.dto.RecipeFixResponseDto;
-import com.sparta.cookbank.redis.ingredient.RedisIngredientRepo;
+import com.sparta.cookbank.index.RecipeCatalog;
 import com.sparta.cookbank.repository.DoneRecipeRepository;
 import com.sparta.cookbank.repository.MemberRepository;
 import com.sparta.cookbank.repository.MyIngredientsRepository;
@@ -16,6 +16,8 @@ import com.sparta.cookbank.security.SecurityUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -29,7 +31,11 @@ public class DoneRecipeService {
     private final RecipeRepository recipeRepository;
     private final MyIngredientsRepository myIngredientsRepository;
     private final DoneRecipeRepository doneRecipeRepository;
-    private final RedisIngredientRepo redisIngredientRepo;
+    private final RecipeIngredientService recipeIngredientService;
+    private final RecipeCatalog recipeCatalog;
+    private final RecipePopularity recipePopularity;
+    private final FridgeSnapshots fridgeSnapshots;
+    private final ExpiryNotifier expiryNotifier;
 
 
     public void UsedIngredient(Long recipeId, DoneRecipeRequestDto requestDto) {
@@ -39,9 +45,9 @@ public class DoneRecipeService {
                         () -> new IllegalArgumentException("해당 재료가 없습니다.")
                 );
                 myIngredientsRepository.delete(ingredients);
-                // 레디스 캐시 초기화.
-                String redisStorage = ingredients.getMember().getEmail()+ingredients.getStorage();
-                redisIngredientRepo.deleteById(redisStorage);
+                // 냉장고 캐시 초기화.
+                fridgeSnapshots.evict(ingredients.getMember().getId());
+                expiryNotifier.remove(ingredients.getId());
 
 
         }}
@@ -50,11 +56,12 @@ public class DoneRecipeService {
         Member member = memberRepository.findById(SecurityUtil.getCurrentMemberId()).orElseThrow(
                 () -> new IllegalArgumentException("유저정보가 올바르지 않습니다.")
         );
-        Recipe recipe = recipeRepository.findById(recipeId).orElseThrow(
+        Recipe recipe = recipeCatalog.findReference(recipeId).orElseThrow(
                 () -> new IllegalArgumentException("해당 레시피가 존재하지 않습니다.")
         );
         DoneRecipe doneRecipe = new DoneRecipe(member, recipe);
         doneRecipeRepository.save(doneRecipe);
+        recipePopularity.record(recipeId, RecipePopularity.DONE);
 
     }
 
@@ -268,12 +275,27 @@ public class DoneRecipeService {
                 () -> new IllegalArgumentException("해당 레시피가 존재하지 않습니다.")
         );
         recipe.SetMainRecipe(requestDto);
+        recipeIngredientService.sync(recipe);
+        applyToCatalog(recipe);
         Recipe nextRecipe = recipeRepository.findById(id + 1).orElseThrow(
                 () -> new IllegalArgumentException("해당 레시피가 존재하지 않습니다.")
         );
         return new RecipeFixResponseDto(nextRecipe);
     }
 
+    // 카탈로그 스냅샷 교체 + 색인 갱신도 커밋 후에. (롤백되면 DB 에 없는 내용 / revision 이 메모리에 남음)
+    private void applyToCatalog(Recipe recipe) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recipeCatalog.apply(recipe);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recipeCatalog.apply(recipe);
+            }
+        });
+    }
 
     //어제 대비 오늘 데이터 조회 통계
     public RatioResponseDto getDailyRatio() {
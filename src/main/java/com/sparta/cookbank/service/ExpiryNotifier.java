@@ -0,0 +1,179 @@
+package com.sparta.cookbank.service;
+
+import com.sparta.cookbank.domain.myingredients.dto.ExpiryNotificationDto;
+import com.sparta.cookbank.domain.myingredients.dto.InHurryIngredientDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.*;
+
+// 유통기한 알림 (오늘 / 내일 만료되는 재료를 회원 본인에게만 STOMP user destination 으로 보냄)
+// 앞으로 HORIZON_DAYS 일 안에 만료되는 재료를 만료일별 묶음으로 들고 있고, 하루에 하루치만 DB 에서 더 불러온다.
+// 재료 추가/삭제는 해당 묶음에 한 건만 넣고 빼므로 냉장고 전체를 다시 읽지 않는다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExpiryNotifier {
+
+    // 회원별 user destination (클라이언트는 /user/queue/expiry 를 구독)
+    public static final String QUEUE_PREFIX = "/queue/";
+    public static final String DESTINATION = QUEUE_PREFIX + "expiry";
+    private static final int HORIZON_DAYS = 7;
+
+    private static final String LOAD_SQL = "select m.id, m.member_id, i.mark_name, i.food_name " +
+            "from my_ingredients m join ingredient i on i.id = m.ingredient_id where m.exp_date = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SimpMessageSendingOperations messagingTemplate;
+
+    // 만료일(epoch day) -> (내 재료 id -> 재료)
+    private final Map<Long, Map<Long, ExpiryEntry>> buckets = new HashMap<>();
+    // 내 재료 id -> 만료일 (삭제할 때 묶음 찾기)
+    private final Map<Long, Long> dayById = new HashMap<>();
+    // 이 날짜까지의 묶음을 DB 에서 불러옴
+    private long loadedUntil = Long.MIN_VALUE;
+
+    // 지난 날짜 묶음은 버리고, 아직 안 불러온 날짜만 불러옴 (서버 시작 시 HORIZON_DAYS 일치, 이후 하루치)
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void advance() {
+        long today = LocalDate.now().toEpochDay();
+        Iterator<Map.Entry<Long, Map<Long, ExpiryEntry>>> iterator = buckets.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, Map<Long, ExpiryEntry>> bucket = iterator.next();
+            if (bucket.getKey() < today) {
+                dayById.keySet().removeAll(bucket.getValue().keySet());
+                iterator.remove();
+            }
+        }
+
+        long until = today + HORIZON_DAYS;
+        int loaded = 0;
+        for (long day = Math.max(loadedUntil + 1, today); day <= until; day++) {
+            long expDay = day;
+            jdbcTemplate.query(LOAD_SQL, rs -> {
+                put(new ExpiryEntry(rs.getLong(1), rs.getLong(2), rs.getString(3), rs.getString(4)), expDay);
+            }, Date.valueOf(LocalDate.ofEpochDay(day)));
+            loaded++;
+        }
+        loadedUntil = until;
+        log.info("유통기한 알림 대상 갱신: {}일치 불러옴, 대기 중인 재료 {}개", loaded, dayById.size());
+    }
+
+    // 매일 오전 9시, 오늘 만료 / 내일 만료 재료를 회원별로 묶어서 알림
+    @Scheduled(cron = "0 0 9 * * *")
+    public void notifyExpiring() {
+        advance();
+        long today = LocalDate.now().toEpochDay();
+        Map<Long, List<ExpiryEntry>> todayByMember;
+        Map<Long, List<ExpiryEntry>> tomorrowByMember;
+        synchronized (this) {
+            todayByMember = byMember(buckets.get(today));
+            tomorrowByMember = byMember(buckets.get(today + 1));
+        }
+        send(todayByMember, "D-Day");
+        send(tomorrowByMember, "D-1");
+        log.info("유통기한 알림 발송: 오늘 만료 {}명, 내일 만료 {}명", todayByMember.size(), tomorrowByMember.size());
+    }
+
+    // 트랜잭션 안이면 커밋 후에 반영 (롤백된 재료로 알림이 가지 않도록)
+    public void add(Long myIngredientId, Long memberId, String markName, String foodName, LocalDate expDate) {
+        afterCommit(() -> {
+            synchronized (this) {
+                long day = expDate.toEpochDay();
+                if (day >= LocalDate.now().toEpochDay() && day <= loadedUntil) {
+                    put(new ExpiryEntry(myIngredientId, memberId, markName, foodName), day);
+                }
+            }
+        });
+    }
+
+    public void remove(Long myIngredientId) {
+        afterCommit(() -> {
+            synchronized (this) {
+                Long day = dayById.remove(myIngredientId);
+                if (day == null) {
+                    return;
+                }
+                Map<Long, ExpiryEntry> bucket = buckets.get(day);
+                bucket.remove(myIngredientId);
+                if (bucket.isEmpty()) {
+                    buckets.remove(day);
+                }
+            }
+        });
+    }
+
+    private void put(ExpiryEntry entry, long day) {
+        buckets.computeIfAbsent(day, k -> new LinkedHashMap<>()).put(entry.myIngredientId, entry);
+        dayById.put(entry.myIngredientId, day);
+    }
+
+    private static Map<Long, List<ExpiryEntry>> byMember(Map<Long, ExpiryEntry> bucket) {
+        Map<Long, List<ExpiryEntry>> result = new LinkedHashMap<>();
+        if (bucket != null) {
+            for (ExpiryEntry entry : bucket.values()) {
+                result.computeIfAbsent(entry.memberId, k -> new ArrayList<>()).add(entry);
+            }
+        }
+        return result;
+    }
+
+    private void send(Map<Long, List<ExpiryEntry>> entriesByMember, String d_date) {
+        for (Map.Entry<Long, List<ExpiryEntry>> member : entriesByMember.entrySet()) {
+            List<InHurryIngredientDto> ingredients = new ArrayList<>();
+            for (ExpiryEntry entry : member.getValue()) {
+                ingredients.add(InHurryIngredientDto.builder()
+                        .mark_name(entry.markName)
+                        .food_name(entry.foodName)
+                        .build());
+            }
+            ExpiryNotificationDto notification = ExpiryNotificationDto.builder()
+                    .d_date(d_date)
+                    .ingredients_num(ingredients.size())
+                    .ingredients(ingredients)
+                    .build();
+            try {
+                messagingTemplate.convertAndSendToUser(String.valueOf(member.getKey()), DESTINATION, notification);
+            } catch (RuntimeException e) {
+                log.warn("유통기한 알림 발송 실패: 회원 {} ({})", member.getKey(), e.getMessage());
+            }
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static class ExpiryEntry {
+        private final Long myIngredientId;
+        private final Long memberId;
+        private final String markName;
+        private final String foodName;
+
+        private ExpiryEntry(Long myIngredientId, Long memberId, String markName, String foodName) {
+            this.myIngredientId = myIngredientId;
+            this.memberId = memberId;
+            this.markName = markName;
+            this.foodName = foodName;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.sparta.cookbank.service;
+
+import com.sparta.cookbank.domain.myingredients.FridgeItem;
+import com.sparta.cookbank.domain.myingredients.FridgeSnapshot;
+import com.sparta.cookbank.domain.myingredients.MyIngredients;
+import com.sparta.cookbank.redis.ingredient.RedisFridge;
+import com.sparta.cookbank.redis.ingredient.RedisFridgeRepo;
+import com.sparta.cookbank.repository.MyIngredientsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+// 회원별 냉장고 스냅샷 (냉장고 화면이 한 번에 부르는 API 들이 같은 재료 목록을 나눠 씀)
+// Redis 에는 날짜를 epoch day 로 담은 재료 목록만 두고, D-day 는 조회할 때 오늘 기준으로 계산하므로
+// 자정이 지나도 캐시가 틀리지 않는다. 재료가 추가/삭제되면 evict.
+@Component
+@RequiredArgsConstructor
+public class FridgeSnapshots {
+
+    // evict 될 때마다 증가하는 회원별 버전 (캐시 TTL 과 같은 기간 유지)
+    private static final String VERSION_KEY_PREFIX = "fridge:version:";
+    private static final long VERSION_TTL_DAYS = 7;
+
+    private final MyIngredientsRepository myIngredientsRepository;
+    private final RedisFridgeRepo redisFridgeRepo;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 캐시가 없을 때만 재료 + 식재료 join 쿼리 1회
+    public FridgeSnapshot get(Long memberId) {
+        LocalDate today = LocalDate.now();
+        String id = String.valueOf(memberId);
+        RedisFridge cached = redisFridgeRepo.findById(id).orElse(null);
+        if (cached != null) {
+            return FridgeSnapshot.of(cached.getItems() == null ? new ArrayList<>() : cached.getItems(), today);
+        }
+
+        String version = stringRedisTemplate.opsForValue().get(VERSION_KEY_PREFIX + memberId);
+        List<FridgeItem> items = new ArrayList<>();
+        for (MyIngredients myIngredients : myIngredientsRepository.findFridgeByMemberId(memberId)) {
+            items.add(FridgeItem.of(myIngredients));
+        }
+        redisFridgeRepo.save(RedisFridge.builder()
+                .id(id)
+                .items(items)
+                .build());
+        // 조회 도중 evict 가 있었으면 (이전 내용일 수 있으므로) 방금 저장한 캐시를 지운다
+        if (!Objects.equals(version, stringRedisTemplate.opsForValue().get(VERSION_KEY_PREFIX + memberId))) {
+            redisFridgeRepo.deleteById(id);
+        }
+        return FridgeSnapshot.of(items, today);
+    }
+
+    // 트랜잭션 안이면 커밋 후에 지운다. (커밋 전에 지우면 그 사이 조회가 이전 내용을 다시 저장할 수 있음)
+    public void evict(Long memberId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            remove(memberId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                remove(memberId);
+            }
+        });
+    }
+
+    private void remove(Long memberId) {
+        String versionKey = VERSION_KEY_PREFIX + memberId;
+        stringRedisTemplate.opsForValue().increment(versionKey);
+        stringRedisTemplate.expire(versionKey, VERSION_TTL_DAYS, TimeUnit.DAYS);
+        redisFridgeRepo.deleteById(String.valueOf(memberId));
+    }
+}
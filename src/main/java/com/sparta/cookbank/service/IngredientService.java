@@ -8,10 +8,14 @@ import com.sparta.cookbank.domain.ingredient.dto.IngredientResponseDto;
 import com.sparta.cookbank.domain.ingredient.dto.IngredientsRatioResponseDto;
 import com.sparta.cookbank.domain.ingredient.dto.TotalIngredientResponseDto;
 import com.sparta.cookbank.domain.member.Member;
+import com.sparta.cookbank.domain.myingredients.FridgeGroup;
+import com.sparta.cookbank.domain.myingredients.FridgeItem;
+import com.sparta.cookbank.domain.myingredients.FridgeSnapshot;
+import com.sparta.cookbank.domain.myingredients.MyIngredientDate;
 import com.sparta.cookbank.domain.myingredients.MyIngredients;
 import com.sparta.cookbank.domain.myingredients.dto.*;
-import com.sparta.cookbank.redis.ingredient.RedisIngredient;
-import com.sparta.cookbank.redis.ingredient.RedisIngredientRepo;
+import com.sparta.cookbank.index.DidYouMeanIndex;
+import com.sparta.cookbank.index.NameSuggestion;
 import com.sparta.cookbank.repository.IngredientsRepository;
 import com.sparta.cookbank.repository.MemberRepository;
 import com.sparta.cookbank.repository.MyIngredientsRepository;
@@ -20,25 +24,39 @@ import com.sparta.cookbank.security.TokenProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.servlet.http.HttpServletRequest;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
 import java.time.LocalDate;
 import java.util.*;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class IngredientService {
 
+    private static final int DID_YOU_MEAN_SIZE = 5;
+    private static final int MAX_BULK_SIZE = 100;
+
+    private static final String INSERT_MY_INGREDIENT_SQL =
+            "insert into my_ingredients (member_id, ingredient_id, storage, in_date, exp_date) values (?, ?, ?, ?, ?)";
+
     private final IngredientsRepository ingredientsRepository;
     private final MemberRepository memberRepository;
     private final MyIngredientsRepository myIngredientsRepository;
     private final TokenProvider tokenProvider;
-    private final RedisIngredientRepo redisIngredientRepo;
+    private final DidYouMeanIndex didYouMeanIndex;
+    private final FridgeSnapshots fridgeSnapshots;
+    private final ExpiryNotifier expiryNotifier;
+    private final JdbcTemplate jdbcTemplate;
 
     @Transactional(readOnly = true)
     public ResponseDto<?> findAutoIngredient(String food_name, HttpServletRequest request) {
@@ -120,11 +138,33 @@ public class IngredientService {
                 .current_page_num(ingredientPage.getPageable().getPageNumber()+1)
                 .total_page_num(ingredientPage.getTotalPages())
                 .search_list(dtoList)
+                .did_you_mean(ingredientPage.getTotalElements() == 0 ? didYouMean(food_name) : null)
                 .build();
         return ResponseDto.success(responseDto,"식재료 검색에 성공하였습니다.");
     }
+
+    // 검색 결과가 없을 때 오타 교정 추천 (식재료 이름 자모 편집 거리 순)
+    private List<IngredientResponseDto> didYouMean(String food_name) {
+        List<NameSuggestion> suggestions = didYouMeanIndex.suggestIngredients(food_name, DID_YOU_MEAN_SIZE);
+        Map<Long, Ingredient> ingredientMap = new HashMap<>();
+        for (Ingredient ingredient : ingredientsRepository.findAllById(suggestions.stream().map(NameSuggestion::getId).collect(Collectors.toList()))) {
+            ingredientMap.put(ingredient.getId(), ingredient);
+        }
+        List<IngredientResponseDto> dtoList = new ArrayList<>();
+        for (NameSuggestion suggestion : suggestions) {
+            Ingredient ingredient = ingredientMap.get(suggestion.getId());
+            if (ingredient != null) {
+                dtoList.add(IngredientResponseDto.builder()
+                        .id(ingredient.getId())
+                        .food_name(ingredient.getFoodName())
+                        .group_name(ingredient.getFoodCategory())
+                        .build());
+            }
+        }
+        return dtoList;
+    }
     @Transactional
-    public ResponseDto<?> saveMyIngredient(IngredientRequestDto requestDto, HttpServletRequest request) throws ParseException {
+    public ResponseDto<?> saveMyIngredient(IngredientRequestDto requestDto, HttpServletRequest request) {
 
         //토큰 유효성 검사
         extracted(request);
@@ -132,32 +172,10 @@ public class IngredientService {
         // 멤버 유효성 검사
         Member member = getMember();
 
-        // Storage 검사
-        switch (requestDto.getStorage()) {
-            case "freeze":
-                break;
-            case "room_temp":
-                break;
-            case "refrigerated":
-                break;
-            default:
-                throw new IllegalArgumentException("보관방법을 선택해주세요!");
-        }
-
-        //입주날짜 검사
-        if(requestDto.getIn_date().isEmpty()||requestDto.getExp_date().isEmpty()){
-            throw new IllegalArgumentException("입주날짜 혹은 유통기한을 추가해주세요!");
-        }
-
-        //입주 유통기한 비교
-        Date inPutDay = new SimpleDateFormat("yyyy-MM-dd").parse(requestDto.getIn_date());
-        Date expDay = new SimpleDateFormat("yyyy-MM-dd").parse( requestDto.getExp_date());
-        int result = expDay.compareTo(inPutDay);
-        // result가 0보다 작다면 유통기한이 입주날짜보다 앞선 날짜라는것이됨..
-        if(result<0){
-            throw new IllegalArgumentException("입주날짜가 유통기한보다 이전날짜입니다.");
-        }
-
+        // 보관방법 / 입주날짜 / 유통기한 검사
+        ValidIngredient valid = validateMyIngredient(requestDto);
+        LocalDate inPutDay = valid.inDate;
+        LocalDate expDay = valid.expDate;
 
         //재료찾기
         Ingredient ingredient = ingredientsRepository.findById(requestDto.getId()).orElseThrow(
@@ -168,32 +186,111 @@ public class IngredientService {
                 .member(member)
                 .ingredient(ingredient)
                 .storage(Storage.valueOf(requestDto.getStorage()))
-                .inDate(requestDto.getIn_date())
-                .expDate(requestDto.getExp_date())
+                .inDate(inPutDay)
+                .expDate(expDay)
                 .build();
         myIngredientsRepository.save(myIngredients);
-        // 레디스 캐시 초기화.
-        String redisStorage = member.getEmail()+requestDto.getStorage();
-        redisIngredientRepo.deleteById(redisStorage);
+        // 냉장고 캐시 초기화.
+        fridgeSnapshots.evict(member.getId());
+        expiryNotifier.add(myIngredients.getId(), member.getId(), ingredient.getMarkName(), ingredient.getFoodName(), expDay);
+        return ResponseDto.success("","작성완료");
+    }
+
+
+    // 여러 재료 한 번에 추가 (식재료 조회 IN 쿼리 1회, insert 는 JDBC batch 1회)
+    @Transactional
+    public ResponseDto<?> saveMyIngredients(IngredientListRequestDto requestDto, HttpServletRequest request) {
+
+        //토큰 유효성 검사
+        extracted(request);
+
+        // 멤버 유효성 검사
+        Member member = getMember();
+
+        List<IngredientRequestDto> items = requestDto.getIngredients();
+        if(items == null || items.isEmpty()){
+            throw new IllegalArgumentException("추가할 재료를 선택해주세요!");
+        }
+        if(items.size() > MAX_BULK_SIZE){
+            throw new IllegalArgumentException("재료는 한 번에 " + MAX_BULK_SIZE + "개까지 추가할 수 있습니다.");
+        }
+
+        // 하나라도 잘못되면 전체를 추가하지 않음 (날짜는 여기서 한 번만 해석)
+        List<ValidIngredient> validItems = new ArrayList<>(items.size());
+        Set<Long> ingredientIds = new HashSet<>();
+        for (IngredientRequestDto item : items) {
+            ValidIngredient valid = validateMyIngredient(item);
+            if(item.getId() == null){
+                throw new IllegalArgumentException("해당 음식 재료가 존재 하지 않습니다.");
+            }
+            validItems.add(valid);
+            ingredientIds.add(item.getId());
+        }
+
+        //재료찾기
+        Map<Long, Ingredient> ingredients = new HashMap<>();
+        for (Ingredient ingredient : ingredientsRepository.findAllById(ingredientIds)) {
+            ingredients.put(ingredient.getId(), ingredient);
+        }
+
+        List<Object[]> rows = new ArrayList<>();
+        for (ValidIngredient valid : validItems) {
+            if(!ingredients.containsKey(valid.ingredientId)){
+                throw new IllegalArgumentException("해당 음식 재료가 존재 하지 않습니다.");
+            }
+            rows.add(new Object[]{member.getId(), valid.ingredientId, valid.storage,
+                    Date.valueOf(valid.inDate), Date.valueOf(valid.expDate)});
+        }
+        List<Long> myIngredientIds = insertMyIngredients(rows);
+
+        // 냉장고 캐시 초기화 (회원당 한 번).
+        fridgeSnapshots.evict(member.getId());
+        for (int i = 0; i < validItems.size() && i < myIngredientIds.size(); i++) {
+            ValidIngredient valid = validItems.get(i);
+            Ingredient ingredient = ingredients.get(valid.ingredientId);
+            expiryNotifier.add(myIngredientIds.get(i), member.getId(), ingredient.getMarkName(), ingredient.getFoodName(),
+                    valid.expDate);
+        }
         return ResponseDto.success("","작성완료");
     }
 
+    // 생성된 id 를 추가한 순서대로 반환 (rewriteBatchedStatements 로 여러 행 insert 한 번으로 보냄)
+    private List<Long> insertMyIngredients(List<Object[]> rows) {
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) con -> {
+            try (PreparedStatement ps = con.prepareStatement(INSERT_MY_INGREDIENT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (Object[] row : rows) {
+                    for (int i = 0; i < row.length; i++) {
+                        ps.setObject(i + 1, row[i]);
+                    }
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                List<Long> ids = new ArrayList<>();
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+                return ids;
+            }
+        });
+    }
 
     @Transactional(readOnly = true)
-    public ResponseDto<?> getMyIngredient(String storage, HttpServletRequest request) throws ParseException {
+    public ResponseDto<?> getMyIngredient(String storage, HttpServletRequest request) {
         //토큰 유효성 검사
         extracted(request);
 
         // 멤버 유효성 검사
         Member member = getMember();
-        //전체 갯수 조회
-        List<MyIngredients> totalMyIngredients = myIngredientsRepository.findAllByMemberIdOrderByExpDate(member.getId());
+        // 냉장고 스냅샷 (재료 조회 1회, 냉장고 화면의 다른 API 와 공유)
+        FridgeSnapshot fridge = fridgeSnapshots.get(member.getId());
         List<MyIngredientResponseDto> dtoList = new ArrayList<>();
-        long total_nums = totalMyIngredients.size();
+        long total_nums = fridge.getItems().size();
 
 
         // 없을시 empty false 로 응답.
-        if(totalMyIngredients.isEmpty()){
+        if(fridge.isEmpty()){
             StorageResponseDto responseDto = StorageResponseDto.builder()
                     .empty(true)
                     .total_nums(0)
@@ -205,84 +302,38 @@ public class IngredientService {
         // 나의 재료 전체조회
         if(storage.equals("")){
 
-            StorageResponseDto responseDto = getStorageResponseDto(totalMyIngredients, dtoList,total_nums);
+            StorageResponseDto responseDto = getStorageResponseDto(fridge, fridge.getItems(), total_nums);
 
             return ResponseDto.success(responseDto,"리스트 제공에 성공하였습니다.");
         }else {
-            // Storage별 조회
-            String redisStorage = member.getEmail()+storage;
-            Optional<RedisIngredient> ingredientList = redisIngredientRepo.findById(redisStorage);
-
-            // 캐시에서 확인, 만약 없을시 DB에서 검색후 캐시저장.
-            if(ingredientList.isEmpty()){
-                Storage storage1 = Storage.valueOf(storage);
-                List<MyIngredients> myIngredients = myIngredientsRepository.findByMemberIdAndStorageOrderByExpDate(member.getId(), storage1);
-                StorageResponseDto responseDto = getStorageResponseDto(myIngredients, dtoList,total_nums);
-                //레디스 캐시에 저장..
-                RedisIngredient redisIngredient = RedisIngredient.builder()
-                        .id(redisStorage)
-                        .empty(false)
-                        .total_nums(total_nums)/// 여기에 저장
-                        .storageList(responseDto)
-                        .build();
-                //레디스 캐시에 저장..
-                redisIngredientRepo.save(redisIngredient);
-
-                return ResponseDto.success(responseDto,"리스트 제공에 성공하였습니다.");
-            }else {   // 캐시에 있을시 캐시를 출력.
-                RedisIngredient redisIngredient = ingredientList.get();
-                StorageResponseDto responseDto = redisIngredient.getStorageList();
-
-                return ResponseDto.success(responseDto,"리스트 제공에 성공하였습니다.");
-            }
+            // Storage별 조회 (total_nums 는 냉장고 전체 재료 수)
+            StorageResponseDto responseDto = getStorageResponseDto(fridge, fridge.byStorage(Storage.valueOf(storage)), total_nums);
 
+            return ResponseDto.success(responseDto,"리스트 제공에 성공하였습니다.");
         }
-
-
     }
 
     @Transactional(readOnly = true)
-    public ResponseDto<?> getMyWarningIngredient(HttpServletRequest request) throws ParseException {
+    public ResponseDto<?> getMyWarningIngredient(HttpServletRequest request) {
         //토큰 유효성 검사
         extracted(request);
 
         // 멤버 유효성 검사
         Member member = getMember();
 
-        List<MyIngredients> myIngredients = myIngredientsRepository.findAllByMemberIdOrderByExpDate(member.getId());
+        // 만료 / 임박 재료는 스냅샷에 이미 나눠져 있음
+        FridgeSnapshot fridge = fridgeSnapshots.get(member.getId());
         List<MyIngredientResponseDto> outList = new ArrayList<>();
         List<InHurryIngredientDto> hurryList = new ArrayList<>();
-        List<String> stringHurryList = new ArrayList<>();
-
-        //현재시각으로 d_day 구하기
-        LocalDate now = LocalDate.now();
-        String nowString = now.toString();
-
-        for (MyIngredients myIngredient : myIngredients){
-            Date outDay = new SimpleDateFormat("yyyy-MM-dd").parse(myIngredient.getExpDate());
-            Date nowDay = new SimpleDateFormat("yyyy-MM-dd").parse(nowString);
-            Long diffSec= (outDay.getTime()-nowDay.getTime())/1000;
-            Long diffDays = diffSec / (24*60*60);
-            String d_day;
-            if(diffDays < 0){  // 유통기한 넘을시 추가..
-                diffDays = -diffDays;
-                d_day ="+"+diffDays;
-                outList.add(MyIngredientResponseDto.builder()
-                        .id(myIngredient.getId())
-                        .icon_image(myIngredient.getIngredient().getIconImage())
-                        .mark_name(myIngredient.getIngredient().getMarkName())
-                        .food_name(myIngredient.getIngredient().getFoodName())
-                        .group_name(myIngredient.getIngredient().getFoodCategory())
-                        .in_date(myIngredient.getInDate())
-                        .d_date("D"+ d_day)
-                        .build());
 
-            }else if(diffDays < 5) {     // 7일 미만 HurryList 추가.
-                hurryList.add(InHurryIngredientDto.builder()
-                        .mark_name(myIngredient.getIngredient().getMarkName())
-                        .food_name(myIngredient.getIngredient().getFoodName())
-                        .build());
-            }
+        for (FridgeItem item : fridge.getExpired()){  // 유통기한 넘을시 추가..
+            outList.add(toMyIngredientDto(item, "D+" + -fridge.daysLeft(item)));
+        }
+        for (FridgeItem item : fridge.getInHurry()){  // 5일 미만 HurryList 추가.
+            hurryList.add(InHurryIngredientDto.builder()
+                    .mark_name(item.getMarkName())
+                    .food_name(item.getFoodName())
+                    .build());
         }
 
         if (hurryList.isEmpty()){
@@ -335,9 +386,9 @@ public class IngredientService {
         }
 
         myIngredientsRepository.delete(myIngredients);
-        // 레디스 캐시 초기화.
-        String redisStorage = member.getEmail()+myIngredients.getStorage();
-        redisIngredientRepo.deleteById(redisStorage);
+        // 냉장고 캐시 초기화.
+        fridgeSnapshots.evict(member.getId());
+        expiryNotifier.remove(myIngredients.getId());
         return ResponseDto.success("","재료 삭제가 성공하였습니다.");
     }
 
@@ -354,61 +405,79 @@ public class IngredientService {
     }
 
 
+    // 보관방법 / 입주날짜 / 유통기한 검사 후 해석한 날짜와 함께 반환
+    private static ValidIngredient validateMyIngredient(IngredientRequestDto requestDto) {
+        // Storage 검사
+        if(requestDto.getStorage() == null){
+            throw new IllegalArgumentException("보관방법을 선택해주세요!");
+        }
+        switch (requestDto.getStorage()) {
+            case "freeze":
+                break;
+            case "room_temp":
+                break;
+            case "refrigerated":
+                break;
+            default:
+                throw new IllegalArgumentException("보관방법을 선택해주세요!");
+        }
+
+        //입주날짜 검사
+        if(requestDto.getIn_date() == null || requestDto.getExp_date() == null
+                || requestDto.getIn_date().isEmpty()||requestDto.getExp_date().isEmpty()){
+            throw new IllegalArgumentException("입주날짜 혹은 유통기한을 추가해주세요!");
+        }
+
+        //입주 유통기한 비교
+        // 유통기한이 입주날짜보다 앞선 날짜
+        LocalDate inDate = parseDate(requestDto.getIn_date());
+        LocalDate expDate = parseDate(requestDto.getExp_date());
+        if(expDate.isBefore(inDate)){
+            throw new IllegalArgumentException("입주날짜가 유통기한보다 이전날짜입니다.");
+        }
+        return new ValidIngredient(requestDto.getId(), requestDto.getStorage(), inDate, expDate);
+    }
+
+    // 검사를 통과한 재료 한 건 (날짜는 해석된 값)
+    private static class ValidIngredient {
+        private final Long ingredientId;
+        private final String storage;
+        private final LocalDate inDate;
+        private final LocalDate expDate;
+
+        private ValidIngredient(Long ingredientId, String storage, LocalDate inDate, LocalDate expDate) {
+            this.ingredientId = ingredientId;
+            this.storage = storage;
+            this.inDate = inDate;
+            this.expDate = expDate;
+        }
+    }
+
+    private static LocalDate parseDate(String date) {
+        LocalDate parsed = MyIngredientDate.parse(date);
+        if (parsed == null) {
+            throw new IllegalArgumentException("날짜 형식이 올바르지 않습니다. (yyyy-MM-dd)");
+        }
+        return parsed;
+    }
+
     private String resolveToken(String token){
         if(token.startsWith("Bearer "))
             return token.substring(7);
         throw new RuntimeException("not valid token !!");
     }
 
-    private StorageResponseDto getStorageResponseDto(List<MyIngredients> myIngredients, List<MyIngredientResponseDto> dtoList,
-                                                     long total_nums  ) throws ParseException {
-        //현재시각으로 d_day 구하기
-        LocalDate now = LocalDate.now();
-        String nowString = now.toString();
-
-        for (MyIngredients myIngredient : myIngredients) {
-            Date outDay = new SimpleDateFormat("yyyy-MM-dd").parse(myIngredient.getExpDate());
-            Date nowDay = new SimpleDateFormat("yyyy-MM-dd").parse(nowString);
-            Long diffSec = (outDay.getTime()-nowDay.getTime())/1000;  //밀리초로 나와서 1000을 나눠야지 초 차이로됨
-            Long diffDays = diffSec / (24*60*60); // 일자수 차이
-            String d_day;
+    private StorageResponseDto getStorageResponseDto(FridgeSnapshot fridge, List<FridgeItem> items, long total_nums) {
+        List<MyIngredientResponseDto> dtoList = new ArrayList<>();
+        for (FridgeItem item : items) {
+            long diffDays = fridge.daysLeft(item); // 일자수 차이
             if(diffDays < 0){  //"유통기간만료"를 출력.
-                diffDays = -diffDays;
-                dtoList.add(MyIngredientResponseDto.builder()
-                        .id(myIngredient.getId())
-                        .icon_image(myIngredient.getIngredient().getIconImage())
-                        .mark_name(myIngredient.getIngredient().getMarkName())
-                        .food_name(myIngredient.getIngredient().getFoodName())
-                        .group_name(myIngredient.getIngredient().getFoodCategory())
-                        .in_date(myIngredient.getInDate())
-                        .d_date("기한 만료")
-                        .build());
-
+                dtoList.add(toMyIngredientDto(item, "기한 만료"));
             }else if(diffDays == 0){ // 당일 재료는 "D-DAY"로출력
-                dtoList.add(MyIngredientResponseDto.builder()
-                        .id(myIngredient.getId())
-                        .icon_image(myIngredient.getIngredient().getIconImage())
-                        .mark_name(myIngredient.getIngredient().getMarkName())
-                        .food_name(myIngredient.getIngredient().getFoodName())
-                        .group_name(myIngredient.getIngredient().getFoodCategory())
-                        .in_date(myIngredient.getInDate())
-                        .d_date("D-Day")
-                        .build());
+                dtoList.add(toMyIngredientDto(item, "D-Day"));
             }else {  //유통기간낸는 "D-남은날짜"
-                d_day ="-"+diffDays.toString();
-
-                dtoList.add(MyIngredientResponseDto.builder()
-                        .id(myIngredient.getId())
-                        .icon_image(myIngredient.getIngredient().getIconImage())
-                        .mark_name(myIngredient.getIngredient().getMarkName())
-                        .food_name(myIngredient.getIngredient().getFoodName())
-                        .group_name(myIngredient.getIngredient().getFoodCategory())
-                        .in_date(myIngredient.getInDate())
-                        .d_date("D"+ d_day)
-                        .build());
-
+                dtoList.add(toMyIngredientDto(item, "D-" + diffDays));
             }
-
         }
 
         return StorageResponseDto.builder()
@@ -418,47 +487,43 @@ public class IngredientService {
                 .build();
     }
 
+    private static MyIngredientResponseDto toMyIngredientDto(FridgeItem item, String d_date) {
+        return MyIngredientResponseDto.builder()
+                .id(item.getId())
+                .icon_image(item.getIconImage())
+                .mark_name(item.getMarkName())
+                .food_name(item.getFoodName())
+                .group_name(item.getFoodCategory())
+                .in_date(item.inDateText())
+                .d_date(d_date)
+                .build();
+    }
+
+    private static TotalMyIngredientDto toTotalDto(FridgeItem item, String d_date) {
+        return TotalMyIngredientDto.builder()
+                .id(item.getId())
+                .icon_image(item.getIconImage())
+                .food_name(item.getFoodName())
+                .group_name(item.getFoodCategory())
+                .in_date(item.inDateText())
+                .d_date(d_date)
+                .category(item.getStorage())
+                .build();
+    }
+
     // 나만의 냉장고 상태 표시
     @Transactional(readOnly = true)
     public IngredientsRatioResponseDto MyRefrigeratorState() {
-
-        Member member = memberRepository.findById(SecurityUtil.getCurrentMemberId()).orElseThrow(() -> {
-            throw new IllegalArgumentException("로그인 한 유저를 찾을 수 없습니다.");
-        });
-
-        boolean empty = false;
-
-        List<MyIngredients> myIngredientsList = myIngredientsRepository.findAllByMemberId(member.getId());
-        if (myIngredientsList.isEmpty()) {
-            empty = true;
-        }
+        // 오늘 기준 남은 유통기한으로 분류 (스냅샷의 유통기한별 묶음 개수)
+        FridgeSnapshot fridge = fridgeSnapshots.get(SecurityUtil.getCurrentMemberId());
 
         List<Integer> countList = new ArrayList<>();
-
-        int warningCount = 0;
-        int inHurryCount = 0;
-        int fineCount = 0;
-
-        // 5일 미만이면 hurry, < 0 warning
-        for (MyIngredients myIngredients : myIngredientsList) {
-            String match = "[^0-9]";
-            int exp_date = Integer.parseInt(myIngredients.getExpDate().replaceAll(match,""));
-            int in_date = Integer.parseInt(myIngredients.getInDate().replaceAll(match,""));
-            if ((exp_date - in_date) < 5 && (exp_date - in_date) >= 0) { // 남은 유통기한이 5일 미만일 때 = inHurry
-                inHurryCount++;
-            }  else if ((exp_date - in_date) >= 5) { // 남은 유통기한이 5일 이상일때
-                fineCount++;
-            } else if ((exp_date - in_date) < 0) { // 유통기한이 지난 재료
-                warningCount++;
-            }
-        }
-
-        countList.add(inHurryCount);
-        countList.add(warningCount);
-        countList.add(fineCount);
+        countList.add(fridge.getInHurry().size()); // 남은 유통기한이 5일 미만
+        countList.add(fridge.getExpired().size()); // 유통기한이 지난 재료
+        countList.add(fridge.getFineCount()); // 남은 유통기한이 5일 이상
 
         return IngredientsRatioResponseDto.builder()
-                .empty(empty)
+                .empty(fridge.isEmpty())
                 .count(countList)
                 .build();
     }
@@ -466,113 +531,39 @@ public class IngredientService {
     // 제품류 나눠서 보여주기
     @Transactional(readOnly = true)
     public IngredientsRatioResponseDto ingredientsByCategory() {
-        Member member = memberRepository.findById(SecurityUtil.getCurrentMemberId()).orElseThrow(() -> {
-            throw new IllegalArgumentException("로그인 한 유저를 찾을 수 없습니다.");
-        });
-
-        boolean empty = false;
-
-        // 농산물
-        int produceNum = 0;
-        // 축산물
-        int livestockNum = 0;
-        // 수산물
-        int marineNum = 0;
-        // 음료류
-        int drinkNum = 0;
-        // 기타
-        int etcNum = 0;
+        FridgeSnapshot fridge = fridgeSnapshots.get(SecurityUtil.getCurrentMemberId());
 
-        // 개수를 담을 list 생성
+        // 농산물, 축산물, 수산물, 음료류, 기타 순서
         List<Integer> countList = new ArrayList<>();
-        List<MyIngredients> myIngredientsList = myIngredientsRepository.findAllByMemberId(member.getId());
-        if (myIngredientsList.isEmpty()) {
-            empty = true;
-        }
-        // 카테고리별 재료 분류
-        for (MyIngredients myIngredients : myIngredientsList) {
-            switch (myIngredients.getIngredient().getFoodCategory()){
-                // 농산물
-                case 전분류: case 견과류: case 곡류: case 과실류: case 두류: case 버섯류: case 채소류:
-                    produceNum++;
-                    break;
-                // 축산물
-                case 난류: case 육류:
-                    livestockNum++;
-                    break;
-                // 수산물
-                case 어패류: case 해조류:
-                    marineNum++;
-                    break;
-                // 음료류
-                case 음료류: case 주류: case 차류:
-                    drinkNum++;
-                    break;
-                // 기타
-                case 기타: case 당류: case 유제품류: case 조리가공품류: case 유지류: case 조미료류:
-                    etcNum++;
-                    break;
-            }
+        for (FridgeGroup group : FridgeGroup.values()) {
+            countList.add(fridge.byGroup(group).size());
         }
-        countList.add(produceNum);
-        countList.add(livestockNum);
-        countList.add(marineNum);
-        countList.add(drinkNum);
-        countList.add(etcNum);
-
 
         return IngredientsRatioResponseDto.builder()
-                .empty(empty)
+                .empty(fridge.isEmpty())
                 .count(countList)
                 .build();
     }
 
     @Transactional(readOnly = true)
-    public ResponseDto<?> getAllMyIngredient(HttpServletRequest request) throws ParseException {
+    public ResponseDto<?> getAllMyIngredient(HttpServletRequest request) {
         //토큰 유효성 검사
         extracted(request);
 
         // 멤버 유효성 검사
         Member member = getMember();
 
-        List<MyIngredients> myIngredients = myIngredientsRepository.findAllByMemberIdOrderByExpDate(member.getId());
+        FridgeSnapshot fridge = fridgeSnapshots.get(member.getId());
         List<TotalMyIngredientDto> dtoList = new ArrayList<>();
 
-        //현재시각으로 d_day 구하기
-        LocalDate now = LocalDate.now();
-        String nowString = now.toString();
-
         // 유통기한지난거 빼서 보내주기
-        for (MyIngredients myIngredient : myIngredients) {
-            Date outDay = new SimpleDateFormat("yyyy-MM-dd").parse(myIngredient.getExpDate());
-            Date nowDay = new SimpleDateFormat("yyyy-MM-dd").parse(nowString);
-            Long diffSec= (outDay.getTime()-nowDay.getTime())/1000;  //밀리초로 나와서 1000을 나눠야지 초 차이로됨
-            Long diffDays = diffSec / (24*60*60); // 일자수 차이
-            String d_day;
+        for (FridgeItem item : fridge.getItems()) {
+            long diffDays = fridge.daysLeft(item); // 일자수 차이
             if(diffDays == 0){
-                d_day ="D-Day";
-                dtoList.add(TotalMyIngredientDto.builder()
-                        .id(myIngredient.getId())
-                        .icon_image(myIngredient.getIngredient().getIconImage())
-                        .food_name(myIngredient.getIngredient().getFoodName())
-                        .group_name(myIngredient.getIngredient().getFoodCategory())
-                        .in_date(myIngredient.getInDate())
-                        .d_date(d_day)
-                        .category(myIngredient.getStorage())
-                        .build());
+                dtoList.add(toTotalDto(item, "D-Day"));
             }else if(diffDays > 0){
-                d_day ="-"+diffDays.toString();
-                dtoList.add(TotalMyIngredientDto.builder()
-                        .id(myIngredient.getId())
-                        .icon_image(myIngredient.getIngredient().getIconImage())
-                        .food_name(myIngredient.getIngredient().getFoodName())
-                        .group_name(myIngredient.getIngredient().getFoodCategory())
-                        .in_date(myIngredient.getInDate())
-                        .d_date("D"+ d_day)
-                        .category(myIngredient.getStorage())
-                        .build());
+                dtoList.add(toTotalDto(item, "D-" + diffDays));
             }
-
         }
 
 
@@ -584,138 +575,59 @@ public class IngredientService {
         return ResponseDto.success(responseDto,"리스트 제공에 성공하였습니다.");
     }
 
-    public ResponseDto<?> getMyCategoryIngredient(String category, HttpServletRequest request) throws ParseException {
+    @Transactional(readOnly = true)
+    public ResponseDto<?> getMyCategoryIngredient(String category, HttpServletRequest request) {
         //토큰 유효성 검사
         extracted(request);
 
         // 멤버 유효성 검사
         Member member = getMember();
+        FridgeSnapshot fridge = fridgeSnapshots.get(member.getId());
 
         //Storage별 분류
         if( category.equals("freeze") ||category.equals("refrigerated")||category.equals("room_temp")) {
 
-            String redisStorage = member.getEmail()+category;
-            Optional<RedisIngredient> ingredientList = redisIngredientRepo.findById(redisStorage);
-
-            // 캐시에서 확인, 만약 없을시 DB에서 검색후 캐시저장.
-            if(ingredientList.isEmpty()){
-                Storage storage1 = Storage.valueOf(category);
-                List<MyIngredients> myIngredients = myIngredientsRepository.findByMemberIdAndStorageOrderByExpDate(member.getId(), storage1);
-                long total_nums = 0;
-                List<MyIngredientResponseDto> dtoList1 = new ArrayList<>();
-
-
-                StorageResponseDto responseDto = getStorageResponseDto(myIngredients, dtoList1,total_nums);
-                //레디스 캐시에 저장..
-                RedisIngredient redisIngredient = RedisIngredient.builder()
-                        .id(redisStorage)
-                        .empty(false)
-                        .total_nums(total_nums)/// 여기에 저장
-                        .storageList(responseDto)
-                        .build();
-                //레디스 캐시에 저장..
-                redisIngredientRepo.save(redisIngredient);
-
-                return ResponseDto.success(responseDto,"리스트 제공에 성공하였습니다.");
-            }else {   // 캐시에 있을시 캐시를 출력.
-                RedisIngredient redisIngredient = ingredientList.get();
-                StorageResponseDto responseDto = redisIngredient.getStorageList();
-
-                return ResponseDto.success(responseDto,"리스트 제공에 성공하였습니다.");
-            }
+            StorageResponseDto responseDto = getStorageResponseDto(fridge, fridge.byStorage(Storage.valueOf(category)), fridge.getItems().size());
 
+            return ResponseDto.success(responseDto,"리스트 제공에 성공하였습니다.");
         }
 
 
-
-
         if(category.isEmpty()){
 
             //전체 갯수 조회
-            List<MyIngredients> totalMyIngredients = myIngredientsRepository.findAllByMemberIdOrderByExpDate(member.getId());
-            List<MyIngredientResponseDto> dtoList = new ArrayList<>();
-            long total_nums = totalMyIngredients.size();
-
-            if(totalMyIngredients.isEmpty()){
+            if(fridge.isEmpty()){
                 StorageResponseDto responseDto = StorageResponseDto.builder()
                         .empty(true)
                         .total_nums(0)
-                        .storage(dtoList)
+                        .storage(new ArrayList<>())
                         .build();
                 return ResponseDto.success(responseDto,"리스트제공에 성공하였습니다.");
             }
 
-            StorageResponseDto responseDto = getStorageResponseDto(totalMyIngredients, dtoList,total_nums);
+            StorageResponseDto responseDto = getStorageResponseDto(fridge, fridge.getItems(), fridge.getItems().size());
 
             return ResponseDto.success(responseDto,"리스트 제공에 성공하였습니다.");
 
         }
 
 
-
-        //현재시각으로 d_day 구하기
-        LocalDate now = LocalDate.now();
-        String nowString = now.toString();
-
-        //분류별 리스트
-        List<MyIngredients> produceList = new ArrayList<>();
-        List<MyIngredients> livestockList = new ArrayList<>();
-        List<MyIngredients> marineList = new ArrayList<>();
-        List<MyIngredients> drinkList = new ArrayList<>();
-        List<MyIngredients> etcList = new ArrayList<>();
-
-
-
-
-        List<MyIngredients> myIngredientsList = myIngredientsRepository.findAllByMemberId(member.getId());
+        //분류별 리스트 (produce, livestock, marine, drink, etc)
         List<TotalMyIngredientDto> dtoList = new ArrayList<>();
-
-
-    // 카테고리별 재료 분류
-        for (MyIngredients myIngredients : myIngredientsList) {
-            switch (myIngredients.getIngredient().getFoodCategory()){
-                // 농산물
-                case 전분류: case 견과류: case 곡류: case 과실류: case 두류: case 버섯류: case 채소류:
-                    produceList.add(myIngredients);
-                    break;
-                // 축산물
-                case 난류: case 육류:
-                    livestockList.add(myIngredients);
-                    break;
-                // 수산물
-                case 어패류: case 해조류:
-                    marineList.add(myIngredients);
-                    break;
-                // 음료류
-                case 음료류: case 주류: case 차류:
-                    drinkList.add(myIngredients);
-                    break;
-                // 기타
-                case 기타: case 당류: case 유제품류: case 조리가공품류: case 유지류: case 조미료류:
-                    etcList.add(myIngredients);
-                    break;
+        FridgeGroup group = FridgeGroup.from(category);
+        if (group != null) {
+            for (FridgeItem item : fridge.byGroup(group)) {
+                long diffDays = fridge.daysLeft(item); // 일자수 차이
+                if(diffDays < 0){
+                    dtoList.add(toTotalDto(item, "유통기간만료"));
+                }else if(diffDays == 0){
+                    dtoList.add(toTotalDto(item, "D-Day"));
+                }else{
+                    dtoList.add(toTotalDto(item, "D-" + diffDays));
+                }
             }
         }
 
-
-        switch (category){
-            case "produce":
-                getMyIngredientWithDday(produceList, dtoList, nowString);
-                break;
-            case "livestock":
-                getMyIngredientWithDday(livestockList, dtoList, nowString);
-                break;
-            case "marine":
-                getMyIngredientWithDday(marineList, dtoList, nowString);
-                break;
-            case "drink":
-                getMyIngredientWithDday(drinkList, dtoList, nowString);
-                break;
-            case "etc":
-                getMyIngredientWithDday(etcList, dtoList, nowString);
-                break;
-        }
-
         CategoryIngredientDto categoryIngredientDto = CategoryIngredientDto.builder()
                 .empty(false)
                 .storage(dtoList)
@@ -725,49 +637,4 @@ public class IngredientService {
         return ResponseDto.success(categoryIngredientDto,"리스트 제공에 성공하였습니다.");
 
     }
-
-    private void getMyIngredientWithDday(List<MyIngredients> myIngredients, List<TotalMyIngredientDto> dtoList, String nowString) throws ParseException {
-        for (MyIngredients myIngredient : myIngredients) {
-            Date outDay = new SimpleDateFormat("yyyy-MM-dd").parse(myIngredient.getExpDate());
-            Date nowDay = new SimpleDateFormat("yyyy-MM-dd").parse(nowString);
-            Long diffSec= (outDay.getTime()-nowDay.getTime())/1000;  //밀리초로 나와서 1000을 나눠야지 초 차이로됨
-            Long diffDays = diffSec / (24*60*60); // 일자수 차이
-            String d_day;
-            if(diffDays < 0){
-                d_day ="유통기간만료";
-                dtoList.add(TotalMyIngredientDto.builder()
-                        .id(myIngredient.getId())
-                        .icon_image(myIngredient.getIngredient().getIconImage())
-                        .food_name(myIngredient.getIngredient().getFoodName())
-                        .group_name(myIngredient.getIngredient().getFoodCategory())
-                        .in_date(myIngredient.getInDate())
-                        .d_date(d_day)
-                        .category(myIngredient.getStorage())
-                        .build());
-            }else if(diffDays == 0){
-                d_day ="D-Day";
-                dtoList.add(TotalMyIngredientDto.builder()
-                        .id(myIngredient.getId())
-                        .icon_image(myIngredient.getIngredient().getIconImage())
-                        .food_name(myIngredient.getIngredient().getFoodName())
-                        .group_name(myIngredient.getIngredient().getFoodCategory())
-                        .in_date(myIngredient.getInDate())
-                        .d_date(d_day)
-                        .category(myIngredient.getStorage())
-                        .build());
-            }else{
-                d_day ="-"+diffDays.toString();
-                dtoList.add(TotalMyIngredientDto.builder()
-                        .id(myIngredient.getId())
-                        .icon_image(myIngredient.getIngredient().getIconImage())
-                        .food_name(myIngredient.getIngredient().getFoodName())
-                        .group_name(myIngredient.getIngredient().getFoodCategory())
-                        .in_date(myIngredient.getInDate())
-                        .d_date("D"+ d_day)
-                        .category(myIngredient.getStorage())
-                        .build());
-            }
-
-        }
-    }
 }
@@ -0,0 +1,32 @@
+package com.sparta.cookbank.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+// 레시피 목록의 북마크 여부를 페이지 단위로 한 번에 조회 (회원별 Redis 북마크 set 기준)
+@Component
+@RequiredArgsConstructor
+public class LikedRecipeResolver {
+
+    private final BookmarkStore bookmarkStore;
+
+    // recipeIds 중 회원이 북마크한 레시피 id (SMEMBERS 1회)
+    public Set<Long> findLikedRecipeIds(Long memberId, Collection<Long> recipeIds) {
+        if (recipeIds == null || recipeIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<Long> likedIds = new HashSet<>(recipeIds);
+        likedIds.retainAll(bookmarkStore.findRecipeIds(memberId));
+        return likedIds;
+    }
+
+    // 레시피 한 건의 북마크 여부
+    public boolean isLiked(Long memberId, Long recipeId) {
+        return bookmarkStore.contains(memberId, recipeId);
+    }
+}
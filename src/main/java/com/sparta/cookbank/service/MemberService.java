@@ -15,7 +15,6 @@ import com.sparta.cookbank.domain.member.dto.*;
 import com.sparta.cookbank.domain.refreshToken.RefreshToken;
 import com.sparta.cookbank.domain.refreshToken.dto.TokenDto;
 import com.sparta.cookbank.redis.calendar.RedisDayCalendarRepo;
-import com.sparta.cookbank.redis.ingredient.RedisIngredientRepo;
 import com.sparta.cookbank.repository.MemberRepository;
 import com.sparta.cookbank.repository.RefreshTokenRepository;
 import com.sparta.cookbank.security.JwtAccessDeniedHandler;
@@ -57,7 +56,6 @@ public class MemberService {
 
     private final MailService mailService;
     private final RedisTemplate<String, String> redisTemplate;
-    private final RedisIngredientRepo redisIngredientRepo;
     private final RedisDayCalendarRepo redisDayCalendarRepo;
 
     private final AmazonS3Client amazonS3Client;
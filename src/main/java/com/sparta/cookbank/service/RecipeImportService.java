@@ -0,0 +1,286 @@
+package com.sparta.cookbank.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.cookbank.domain.recipe.dto.RecipeImportResponseDto;
+import com.sparta.cookbank.index.RecipeCatalog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 대용량 레시피 JSON 을 한 건씩 읽어 청크 단위 트랜잭션 + JDBC batch 로 등록/수정
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecipeImportService {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_ERRORS = 20;
+
+    // JSON 키 = 엔티티 필드명, 컬럼명은 소문자 (SpringPhysicalNamingStrategy)
+    private static final String[] TEXT_FIELDS = {
+            "RCP_NM", "RCP_WAY2", "RCP_PAT2", "ATT_FILE_NO_MAIN", "ATT_FILE_NO_MK", "RCP_PARTS_DTLS",
+            "MANUAL01", "MANUAL_IMG01", "MANUAL02", "MANUAL_IMG02", "MANUAL03", "MANUAL_IMG03",
+            "MANUAL04", "MANUAL_IMG04", "MANUAL05", "MANUAL_IMG05", "MANUAL06", "MANUAL_IMG06",
+            "MAIN_INGREDIENTS"
+    };
+    private static final String[] NUMBER_FIELDS = {"INFO_ENG", "INFO_CAR", "INFO_PRO", "INFO_FAT", "INFO_NA"};
+
+    private static final String INSERT_SQL = insertSql();
+    private static final String UPDATE_SQL = updateSql();
+
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RecipeIngredientService recipeIngredientService;
+    private final RecipeCatalog recipeCatalog;
+
+    // 비어 있으면 HTTP 일괄 등록은 막힘 (CLI 는 토큰 없이 실행)
+    @Value("${recipe.import.token:}")
+    private String importToken;
+
+    public void checkToken(String token) {
+        if (importToken == null || importToken.isBlank()) {
+            throw new IllegalArgumentException("레시피 일괄 등록이 비활성화되어 있습니다.");
+        }
+        if (token == null || !MessageDigest.isEqual(importToken.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8))) {
+            throw new IllegalArgumentException("레시피 일괄 등록 권한이 없습니다.");
+        }
+    }
+
+    // 최상위 배열 또는 공공데이터 응답 형식({"COOKRCP01":{"row":[...]}}) 모두 허용
+    // id 가 없으면 새 레시피, 있으면 해당 레시피에서 값이 있는 항목만 수정
+    public RecipeImportResponseDto importRecipes(InputStream inputStream) throws IOException {
+        long start = System.nanoTime();
+        ImportResult result = new ImportResult();
+        List<ImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            if (!moveToRows(parser)) {
+                throw new IllegalArgumentException("레시피 목록(JSON 배열)을 찾을 수 없습니다.");
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                JsonNode node = objectMapper.readTree(parser);
+                result.total++;
+                ImportRow row = toRow(node, result);
+                if (row == null) {
+                    continue;
+                }
+                chunk.add(row);
+                if (chunk.size() == CHUNK_SIZE) {
+                    write(chunk, result);
+                    chunk = new ArrayList<>(CHUNK_SIZE);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                write(chunk, result);
+            }
+        } catch (IOException | RuntimeException e) {
+            // 중간에 실패해도 이미 커밋된 청크는 재료 행 / 캐시 / 카탈로그에 반영
+            log.warn("레시피 일괄 등록 중단: 전체 {}개 중 추가 {}개, 수정 {}개까지 반영 ({})",
+                    result.total, result.inserted, result.updatedIds.size(), e.getMessage());
+            try {
+                refresh(result);
+            } catch (RuntimeException refreshException) {
+                e.addSuppressed(refreshException);
+            }
+            throw e;
+        }
+
+        refresh(result);
+
+        long elapsedMs = Math.max((System.nanoTime() - start) / 1_000_000, 1);
+        long rowsPerSecond = result.total * 1000L / elapsedMs;
+        log.info("레시피 일괄 등록 완료: 전체 {}개, 추가 {}개, 수정 {}개, 제외 {}개, {}ms ({}건/초)",
+                result.total, result.inserted, result.updatedIds.size(), result.skipped, elapsedMs, rowsPerSecond);
+        return RecipeImportResponseDto.builder()
+                .total_count(result.total)
+                .inserted_count(result.inserted)
+                .updated_count(result.updatedIds.size())
+                .skipped_count(result.skipped)
+                .elapsed_ms(elapsedMs)
+                .rows_per_second(rowsPerSecond)
+                .errors(result.errors)
+                .build();
+    }
+
+    private static boolean moveToRows(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.START_ARRAY) {
+            return true;
+        }
+        while (token != null) {
+            if (token == JsonToken.FIELD_NAME && "row".equals(parser.getCurrentName())) {
+                return parser.nextToken() == JsonToken.START_ARRAY;
+            }
+            token = parser.nextToken();
+        }
+        return false;
+    }
+
+    // 검증 실패 시 null (사유는 errors 에 기록)
+    private static ImportRow toRow(JsonNode node, ImportResult result) {
+        try {
+            Long id = null;
+            JsonNode idNode = node.get("id");
+            if (idNode != null && !idNode.isNull()) {
+                id = idNode.asLong();
+                if (id <= 0) {
+                    throw new IllegalArgumentException("id 가 올바르지 않습니다.");
+                }
+            }
+
+            Object[] values = new Object[TEXT_FIELDS.length + NUMBER_FIELDS.length];
+            for (int i = 0; i < TEXT_FIELDS.length; i++) {
+                String value = text(node, TEXT_FIELDS[i]);
+                int maxLength = "RCP_PARTS_DTLS".equals(TEXT_FIELDS[i]) ? 1000 : 255;
+                if (value != null && value.length() > maxLength) {
+                    throw new IllegalArgumentException(TEXT_FIELDS[i] + " 길이가 " + maxLength + "자를 넘습니다.");
+                }
+                values[i] = value;
+            }
+            for (int i = 0; i < NUMBER_FIELDS.length; i++) {
+                values[TEXT_FIELDS.length + i] = number(node, NUMBER_FIELDS[i]);
+            }
+            if (id == null && values[0] == null) {
+                throw new IllegalArgumentException("RCP_NM 이 없습니다.");
+            }
+            return new ImportRow(id, values);
+        } catch (IllegalArgumentException e) {
+            result.skipped++;
+            if (result.errors.size() < MAX_ERRORS) {
+                result.errors.add(result.total + "번째 레시피: " + e.getMessage());
+            }
+            return null;
+        }
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        if (value == null || value.isNull()) {
+            return null;
+        }
+        String text = value.asText().trim();
+        return text.isEmpty() ? null : text;
+    }
+
+    // 공공데이터 응답은 "123.5" 처럼 문자열 숫자로 옴
+    private static Long number(JsonNode node, String field) {
+        String text = text(node, field);
+        if (text == null) {
+            return null;
+        }
+        try {
+            return Math.round(Double.parseDouble(text));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(field + " 숫자 형식이 아닙니다.");
+        }
+    }
+
+    // 청크 하나 = 트랜잭션 하나 (실패해도 이전 청크는 유지)
+    private void write(List<ImportRow> chunk, ImportResult result) {
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> updates = new ArrayList<>();
+        List<Long> updateIds = new ArrayList<>();
+        for (ImportRow row : chunk) {
+            if (row.id == null) {
+                inserts.add(row.values);
+            } else {
+                Object[] args = new Object[row.values.length + 1];
+                System.arraycopy(row.values, 0, args, 0, row.values.length);
+                args[row.values.length] = row.id;
+                updates.add(args);
+                updateIds.add(row.id);
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!inserts.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+            }
+            if (!updates.isEmpty()) {
+                int[] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+                for (int i = 0; i < counts.length; i++) {
+                    // 0 이면 없는 레시피 (rewriteBatchedStatements 로 건수를 모르면 음수)
+                    if (counts[i] == 0) {
+                        result.skipped++;
+                        if (result.errors.size() < MAX_ERRORS) {
+                            result.errors.add("id " + updateIds.get(i) + ": 해당 레시피가 존재하지 않습니다.");
+                        }
+                    } else {
+                        result.updatedIds.add(updateIds.get(i));
+                    }
+                }
+            }
+        });
+        result.inserted += inserts.size();
+    }
+
+    // 재료 행 / 카탈로그를 한 번에 갱신
+    private void refresh(ImportResult result) {
+        if (result.inserted == 0 && result.updatedIds.isEmpty()) {
+            return;
+        }
+        if (!result.updatedIds.isEmpty()) {
+            recipeIngredientService.resync(result.updatedIds);
+        }
+        // 새로 추가된 레시피는 재료 행이 없으므로 백필로 채움
+        recipeIngredientService.backfill();
+        recipeCatalog.reload();
+    }
+
+    private static String insertSql() {
+        List<String> columns = new ArrayList<>();
+        for (String field : TEXT_FIELDS) {
+            columns.add(field.toLowerCase());
+        }
+        for (String field : NUMBER_FIELDS) {
+            columns.add(field.toLowerCase());
+        }
+        String placeholders = columns.stream().map(c -> "?").collect(Collectors.joining(", "));
+        return "insert into recipe (" + String.join(", ", columns) + ", revision) values (" + placeholders + ", 0)";
+    }
+
+    // 값이 없는 항목은 기존 값 유지, 수정될 때마다 revision 증가 (ETag)
+    private static String updateSql() {
+        List<String> sets = new ArrayList<>();
+        for (String field : TEXT_FIELDS) {
+            sets.add(field.toLowerCase() + " = coalesce(?, " + field.toLowerCase() + ")");
+        }
+        for (String field : NUMBER_FIELDS) {
+            sets.add(field.toLowerCase() + " = coalesce(?, " + field.toLowerCase() + ")");
+        }
+        return "update recipe set " + String.join(", ", sets) + ", revision = coalesce(revision, 0) + 1 where id = ?";
+    }
+
+    private static class ImportRow {
+        private final Long id;
+        private final Object[] values; // TEXT_FIELDS, NUMBER_FIELDS 순서
+
+        private ImportRow(Long id, Object[] values) {
+            this.id = id;
+            this.values = values;
+        }
+    }
+
+    private static class ImportResult {
+        private int total;
+        private int inserted;
+        private int skipped;
+        private final List<Long> updatedIds = new ArrayList<>();
+        private final List<String> errors = new ArrayList<>();
+    }
+}
@@ -0,0 +1,116 @@
+package com.sparta.cookbank.service;
+
+import com.sparta.cookbank.domain.recipe.Recipe;
+import com.sparta.cookbank.domain.recipe.RecipeIngredient;
+import com.sparta.cookbank.index.IngredientTokenizer;
+import com.sparta.cookbank.repository.RecipeIngredientRepository;
+import com.sparta.cookbank.repository.RecipeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+// 레시피 재료 문자열을 recipe_ingredient 테이블로 분리해서 관리
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecipeIngredientService {
+
+    private static final int BACKFILL_CHUNK_SIZE = 100;
+
+    // IDENTITY id 는 Hibernate 가 batch insert 를 못 하므로 JDBC batch 로 넣음
+    private static final String INSERT_SQL =
+            "insert into recipe_ingredient (recipe_id, position, raw_text, token, is_main) values (?, ?, ?, ?, ?)";
+
+    private final RecipeRepository recipeRepository;
+    private final RecipeIngredientRepository recipeIngredientRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // 서버 시작 시 재료가 분리되지 않은 레시피만 채움 (재료 색인보다 먼저)
+    // 청크마다 트랜잭션을 따로 써서 영속성 컨텍스트에 레시피가 쌓이지 않도록 함
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void backfill() {
+        List<Long> recipeIds = recipeIngredientRepository.findRecipeIdsWithoutIngredients();
+        if (recipeIds.isEmpty()) {
+            return;
+        }
+        int rowCount = 0;
+        for (int from = 0; from < recipeIds.size(); from += BACKFILL_CHUNK_SIZE) {
+            List<Long> chunk = recipeIds.subList(from, Math.min(from + BACKFILL_CHUNK_SIZE, recipeIds.size()));
+            rowCount += transactionTemplate.execute(status -> insertRows(chunk));
+        }
+        log.info("레시피 재료 백필 완료: 레시피 {}개, 재료 {}개", recipeIds.size(), rowCount);
+    }
+
+    // 레시피 재료가 수정되면 해당 레시피의 재료 행을 다시 만듦
+    @Transactional
+    public void sync(Recipe recipe) {
+        recipeIngredientRepository.deleteAllByRecipeId(recipe.getId());
+        recipeIngredientRepository.saveAll(toRows(recipe));
+    }
+
+    // 일괄 수정된 레시피들의 재료 행을 청크 단위 트랜잭션으로 다시 만듦
+    public void resync(List<Long> recipeIds) {
+        for (int from = 0; from < recipeIds.size(); from += BACKFILL_CHUNK_SIZE) {
+            List<Long> chunk = recipeIds.subList(from, Math.min(from + BACKFILL_CHUNK_SIZE, recipeIds.size()));
+            transactionTemplate.executeWithoutResult(status -> {
+                recipeIngredientRepository.deleteAllByRecipeIdIn(chunk);
+                insertRows(chunk);
+            });
+        }
+    }
+
+    private int insertRows(List<Long> recipeIds) {
+        List<Object[]> rows = new ArrayList<>();
+        for (Recipe recipe : recipeRepository.findAllById(recipeIds)) {
+            for (RecipeIngredient row : toRows(recipe)) {
+                rows.add(new Object[]{recipe.getId(), row.getPosition(), row.getRawText(), row.getToken(), row.isMain()});
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        }
+        return rows.size();
+    }
+
+    // RCP_PARTS_DTLS 순서대로 행을 만들고, 재료 목록에 없는 메인 재료는 뒤에 붙임
+    static List<RecipeIngredient> toRows(Recipe recipe) {
+        Set<String> mainTokens = new LinkedHashSet<>(IngredientTokenizer.tokenize(recipe.getMAIN_INGREDIENTS()));
+        Set<String> seen = new HashSet<>();
+        List<RecipeIngredient> rows = new ArrayList<>();
+
+        for (String rawText : IngredientTokenizer.split(recipe.getRCP_PARTS_DTLS())) {
+            String token = IngredientTokenizer.normalize(rawText);
+            if (seen.add(token)) {
+                rows.add(toRow(recipe, rows.size(), rawText, token, mainTokens.contains(token)));
+            }
+        }
+        for (String rawText : IngredientTokenizer.split(recipe.getMAIN_INGREDIENTS())) {
+            String token = IngredientTokenizer.normalize(rawText);
+            if (seen.add(token)) {
+                rows.add(toRow(recipe, rows.size(), rawText, token, true));
+            }
+        }
+        return rows;
+    }
+
+    private static RecipeIngredient toRow(Recipe recipe, int position, String rawText, String token, boolean main) {
+        return RecipeIngredient.builder()
+                .recipe(recipe)
+                .position(position)
+                .rawText(rawText)
+                .token(token)
+                .main(main)
+                .build();
+    }
+}
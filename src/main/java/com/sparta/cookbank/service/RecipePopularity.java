@@ -0,0 +1,154 @@
+package com.sparta.cookbank.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// 레시피 인기 점수 (북마크 / 요리 완료 / 식단 등록)
+// 요청 처리 중에는 메모리 카운터만 올리고, 주기적으로 Redis sorted set 에 시간 감쇠를 적용해 합산
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecipePopularity {
+
+    // 이벤트별 가중치
+    public static final int BOOKMARK = 3;
+    public static final int DONE = 5;
+    public static final int CALENDAR = 2;
+
+    private static final String TRENDING_KEY = "recipe:trending";
+    private static final String EPOCH_KEY = "recipe:trending:epoch";
+    // 레시피별로 점수에 북마크를 반영한 회원 id set
+    private static final String BOOKMARKED_KEY_PREFIX = "recipe:trending:bookmarked:";
+    // 3일마다 점수 영향력이 절반
+    private static final double HALF_LIFE_MILLIS = TimeUnit.DAYS.toMillis(3);
+    // 기준 시각에서 반감기 40번(2^40)이 지나면 기준 시각을 옮겨서 점수가 너무 커지지 않게 함
+    private static final double MAX_EXPONENT = 40;
+    // 기준 시각을 옮긴 뒤 이 값보다 작은 점수는 사실상 0 이므로 정리
+    private static final double MIN_SCORE = 0.01;
+
+    // 점수 축소(ZUNIONSTORE WEIGHTS) + 작은 점수 정리 + 기준 시각 이동을 한 번에.
+    // 그 사이 다른 서버가 먼저 옮겼으면 (기준 시각이 읽은 값과 다르면) 아무것도 하지 않고 현재 기준 시각을 돌려준다.
+    static final RedisScript<String> REBASE_SCRIPT = new DefaultRedisScript<>(
+            "local epoch = redis.call('GET', KEYS[2]) " +
+            "if epoch ~= ARGV[4] then return epoch end " +
+            "redis.call('ZUNIONSTORE', KEYS[1], 1, KEYS[1], 'WEIGHTS', ARGV[1]) " +
+            "redis.call('ZREMRANGEBYSCORE', KEYS[1], 0, ARGV[2]) " +
+            "redis.call('SET', KEYS[2], ARGV[3]) " +
+            "return ARGV[3]", String.class);
+
+    // 증가량은 ARGV[1] 기준 시각으로 계산한 값이므로, 그 사이 기준 시각이 옮겨졌으면 반영하지 않고 0 (다음 주기에 다시 계산)
+    // ARGV = 기준 시각, 레시피 id, 증가량, 레시피 id, 증가량, ...
+    static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[2]) ~= ARGV[1] then return 0 end " +
+            "for i = 2, #ARGV, 2 do redis.call('ZINCRBY', KEYS[1], ARGV[i + 1], ARGV[i]) end " +
+            "return 1", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 레시피 id -> 마지막 반영 이후 쌓인 가중치 합
+    private final Map<Long, LongAdder> counters = new ConcurrentHashMap<>();
+
+    public void record(Long recipeId, int weight) {
+        counters.computeIfAbsent(recipeId, k -> new LongAdder()).add(weight);
+    }
+
+    // 북마크는 회원마다 레시피당 처음 한 번만 반영 (북마크/해제를 반복해서 점수를 올리지 못하게)
+    public void recordBookmark(Long memberId, Long recipeId) {
+        try {
+            Long added = stringRedisTemplate.opsForSet().add(BOOKMARKED_KEY_PREFIX + recipeId, String.valueOf(memberId));
+            if (added != null && added > 0) {
+                record(recipeId, BOOKMARK);
+            }
+        } catch (RuntimeException e) {
+            log.warn("레시피 인기 점수 북마크 반영 실패: 레시피 {} ({})", recipeId, e.getMessage());
+        }
+    }
+
+    // 감쇠는 "나중 이벤트일수록 2^(경과 시간 / 반감기) 배로 더하는" 방식 (forward decay).
+    // 기존 점수를 매번 줄이지 않아도 순위가 감쇠를 적용한 순위와 같다.
+    @Scheduled(fixedDelay = 10000)
+    public void flush() {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Map.Entry<Long, LongAdder> counter : counters.entrySet()) {
+            long sum = counter.getValue().sumThenReset();
+            if (sum > 0) {
+                deltas.put(counter.getKey(), sum);
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            long now = System.currentTimeMillis();
+            long epoch = epoch(now);
+            double exponent = (now - epoch) / HALF_LIFE_MILLIS;
+            if (exponent > MAX_EXPONENT) {
+                epoch = rebase(now, epoch, exponent);
+                exponent = (now - epoch) / HALF_LIFE_MILLIS;
+            }
+            double factor = Math.pow(2, exponent);
+            List<Object> args = new ArrayList<>();
+            args.add(String.valueOf(epoch));
+            for (Map.Entry<Long, Long> delta : deltas.entrySet()) {
+                args.add(String.valueOf(delta.getKey()));
+                args.add(String.valueOf(delta.getValue() * factor));
+            }
+            Long applied = stringRedisTemplate.execute(INCREMENT_SCRIPT, List.of(TRENDING_KEY, EPOCH_KEY), args.toArray());
+            if (applied == null || applied == 0) {
+                // 다른 서버가 기준 시각을 옮김 (옛 기준으로 계산한 증가량이 2^40 배 커지지 않도록 다음 주기에 다시 계산)
+                log.info("레시피 인기 점수 기준 시각이 바뀌어 다음 주기에 반영");
+                requeue(deltas);
+            }
+        } catch (RuntimeException e) {
+            // Redis 반영에 실패하면 다음 주기에 다시 반영
+            log.warn("레시피 인기 점수 반영 실패: {}", e.getMessage());
+            requeue(deltas);
+        }
+    }
+
+    private void requeue(Map<Long, Long> deltas) {
+        for (Map.Entry<Long, Long> delta : deltas.entrySet()) {
+            record(delta.getKey(), delta.getValue().intValue());
+        }
+    }
+
+    // 인기 점수 상위 size 개 레시피 id (ZREVRANGE)
+    public List<Long> findTopRecipeIds(int size) {
+        Set<String> members = stringRedisTemplate.opsForZSet().reverseRange(TRENDING_KEY, 0, size - 1);
+        List<Long> recipeIds = new ArrayList<>();
+        if (members != null) {
+            for (String member : members) {
+                recipeIds.add(Long.valueOf(member));
+            }
+        }
+        return recipeIds;
+    }
+
+    private long epoch(long now) {
+        stringRedisTemplate.opsForValue().setIfAbsent(EPOCH_KEY, String.valueOf(now));
+        String epoch = stringRedisTemplate.opsForValue().get(EPOCH_KEY);
+        return epoch == null ? now : Long.parseLong(epoch);
+    }
+
+    // 모든 점수에 2^-exponent 를 곱하고 (ZUNIONSTORE WEIGHTS) 기준 시각을 지금으로 옮김. 바뀐 기준 시각을 반환
+    private long rebase(long now, long epoch, double exponent) {
+        String current = stringRedisTemplate.execute(REBASE_SCRIPT, List.of(TRENDING_KEY, EPOCH_KEY),
+                String.valueOf(Math.pow(2, -exponent)), String.valueOf(MIN_SCORE), String.valueOf(now), String.valueOf(epoch));
+        long rebased = current == null ? now : Long.parseLong(current);
+        if (rebased == now) {
+            log.info("레시피 인기 점수 기준 시각 이동: 반감기 {}회분 축소", (long) exponent);
+        }
+        return rebased;
+    }
+}
@@ -1,18 +1,38 @@
 package com.sparta.cookbank.service;
 
-import com.sparta.cookbank.domain.LikeRecipe;
+import com.sparta.cookbank.PageCursor;
 import com.sparta.cookbank.domain.member.Member;
 import com.sparta.cookbank.domain.recipe.Recipe;
 import com.sparta.cookbank.domain.recipe.dto.*;
+import com.sparta.cookbank.index.AlsoCookedIndex;
+import com.sparta.cookbank.index.CatalogRecipe;
+import com.sparta.cookbank.index.DidYouMeanIndex;
+import com.sparta.cookbank.index.FacetResult;
+import com.sparta.cookbank.index.IngredientTokenizer;
+import com.sparta.cookbank.index.NameSuggestion;
+import com.sparta.cookbank.index.Nutrient;
+import com.sparta.cookbank.index.NutrientRange;
+import com.sparta.cookbank.index.RankedRecipe;
+import com.sparta.cookbank.index.RecipeCatalog;
+import com.sparta.cookbank.index.RecipeFacetIndex;
+import com.sparta.cookbank.index.RecipeIdPage;
+import com.sparta.cookbank.index.RecipeIngredientIndex;
+import com.sparta.cookbank.index.RecipeNameHit;
+import com.sparta.cookbank.index.RecipeNameIndex;
+import com.sparta.cookbank.index.RecipeNutrientIndex;
+import com.sparta.cookbank.index.RecipeTextIndex;
+import com.sparta.cookbank.index.SearchHits;
 import com.sparta.cookbank.redis.recipe.RedisRecipe;
 import com.sparta.cookbank.redis.recipe.RedisRecipeRepo;
-import com.sparta.cookbank.repository.LikeRecipeRepository;
 import com.sparta.cookbank.repository.MemberRepository;
 import com.sparta.cookbank.repository.RecipeRepository;
 import com.sparta.cookbank.security.SecurityUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,10 +42,26 @@ import java.util.*;
 @RequiredArgsConstructor
 public class RecipeService {
 
+    private static final int DEFAULT_RECOMMEND_SIZE = 10;
+    private static final int MAX_RECOMMEND_SIZE = 50;
+    private static final int AUTO_COMPLETE_SIZE = 10;
+    private static final int DID_YOU_MEAN_SIZE = 5;
+    private static final int TRENDING_MAX_SIZE = 50;
+
     private final RecipeRepository recipeRepository;
-    private final LikeRecipeRepository likeRecipeRepository;
+    private final BookmarkStore bookmarkStore;
     private final MemberRepository memberRepository;
     private final RedisRecipeRepo redisRecipeRepo;
+    private final RecipeIngredientIndex recipeIngredientIndex;
+    private final LikedRecipeResolver likedRecipeResolver;
+    private final RecipeTextIndex recipeTextIndex;
+    private final RecipeNameIndex recipeNameIndex;
+    private final RecipeFacetIndex recipeFacetIndex;
+    private final RecipeNutrientIndex recipeNutrientIndex;
+    private final DidYouMeanIndex didYouMeanIndex;
+    private final RecipeCatalog recipeCatalog;
+    private final RecipePopularity recipePopularity;
+    private final AlsoCookedIndex alsoCookedIndex;
 
     // 추천 레시피 조회
     @Transactional(readOnly = true)
@@ -34,154 +70,261 @@ public class RecipeService {
             throw new IllegalArgumentException("로그인한 유저를 찾을 수 없습니다.");
         });
 
-        //레디스에서 찾기
-        String redisKey = requestDto.getBase()+requestDto.getFoods(); // 고유키
+        int size = requestDto.getSize() == null ? DEFAULT_RECOMMEND_SIZE : requestDto.getSize();
+        if (size < 1 || size > MAX_RECOMMEND_SIZE) {
+            throw new IllegalArgumentException("size는 1 ~ " + MAX_RECOMMEND_SIZE + " 사이로 입력해주세요!");
+        }
+
+        //레디스에서 찾기 (재료 순서와 무관한 고유키, 회원과 무관하게 공유)
+        String redisKey = recommendCacheKey(requestDto, size);
         Optional<RedisRecipe> redisRecipe = redisRecipeRepo.findById(redisKey);
 
         if(redisRecipe.isEmpty()){ // 레디스 캐시 없을시
 
-            List<Recipe> recipeList = recipeRepository.findByRecommendRecipeOption(requestDto.getBase());
-            List<RecipeRecommendDto> recipeRecommendDto = new ArrayList<>();
-
-            HashMap<Recipe, Integer> recipeMap = new LinkedHashMap<>();
-
-            for (Recipe recipe : recipeList) {
-                int count = 0;
-
-                // 서브 재료의 개수만큼 반복문을 돌리는데
-                for (int i = 0; i < requestDto.getFoods().size(); i++) {
-                    // 만약 가져온 recipe 에 검색어 i 번째가 포함되면 count를  1 증가시키고 HashMap에 저장한다. 포함되는게 없으면 Recipe와 함께 0을 저장한다.
-                    if (recipe.getRCP_PARTS_DTLS().contains(requestDto.getFoods().get(i))) {
-                        count++;
-                        recipeMap.put(recipe, count);
-                    } else {
-                        recipeMap.put(recipe,0);
-                    }
-                }
+            RankedRecipe after = null;
+            if (requestDto.getCursor() != null) {
+                long[] keys = PageCursor.decode(requestDto.getCursor(), 2);
+                after = new RankedRecipe(keys[1], (int) keys[0]);
             }
 
-            // 저장한 map에서 count를 내림차순으로 정렬하기 위해 list 형태로 map을 가져온다.
-            List<Map.Entry<Recipe, Integer>> list = new LinkedList<>(recipeMap.entrySet());
-            // 람다식을 통해 내림차순으로 정렬한다.
-            list.sort(((o1, o2) -> recipeMap.get(o2.getKey()) - recipeMap.get(o1.getKey())));
-
+            // 재료 역색인에서 커서 다음 순위 size+1개만 뽑는다. (한 개 더는 다음 페이지 여부 확인용)
+            List<RankedRecipe> ranked = recipeIngredientIndex.rank(requestDto.getBase(), requestDto.getFoods(), after, size + 1);
+            boolean hasNext = ranked.size() > size;
+            if (hasNext) {
+                ranked = ranked.subList(0, size);
+            }
+            String nextCursor = null;
+            if (hasNext) {
+                RankedRecipe last = ranked.get(ranked.size() - 1);
+                nextCursor = PageCursor.encode(last.getMatchCount(), last.getRecipeId());
+            }
 
-        for (Map.Entry<Recipe, Integer> entry : list) {
-            boolean liked = false;
-            LikeRecipe likeRecipe = likeRecipeRepository.findByMember_IdAndRecipe_Id(member.getId(), entry.getKey().getId());
-            if (!(likeRecipe == null)) {
-                liked = true;
+            // 이번 페이지에 해당하는 레시피만 조회
+            List<Long> idList = new ArrayList<>();
+            for (RankedRecipe rankedRecipe : ranked) {
+                idList.add(rankedRecipe.getRecipeId());
+            }
+            List<RecipeRecommendDto> recipeRecommendDto = new ArrayList<>();
+            // 메인 재료 / 모든 재료 목록은 카탈로그에 미리 나눠져 있음
+            for (CatalogRecipe recipe : recipeCatalog.findAll(idList)) {
+                recipeRecommendDto.add(
+                        RecipeRecommendDto.builder()
+                                .id(recipe.getId())
+                                .recipe_name(recipe.getRecipeName())
+                                .recipe_image(recipe.getMainImg())
+                                .common_ingredients(new ArrayList<>(recipe.getMainIngredients()))
+                                .ingredients(new ArrayList<>(recipe.getIngredients()))
+                                .method(recipe.getMethod())
+                                .category(recipe.getCategory())
+                                .calorie(recipe.getCalorie())
+                                .build()
+                );
             }
-            // 메인 재료들을  리스트에 담음
-            List<String> mainIngredientsList = Arrays.asList(entry.getKey().getMAIN_INGREDIENTS().split(","));
-            // 모든 재료들을 리스트에 담음
-            List<String> ingredientsList = Arrays.asList(entry.getKey().getRCP_PARTS_DTLS().split(","));
-            recipeRecommendDto.add(
-                    RecipeRecommendDto.builder()
-                            .id(entry.getKey().getId())
-                            .recipe_name(entry.getKey().getRCP_NM())
-                            .recipe_image(entry.getKey().getATT_FILE_NO_MAIN())
-                            .liked(liked)
-                            .common_ingredients(mainIngredientsList)
-                            .ingredients(ingredientsList)
-                            .method(entry.getKey().getRCP_WAY2())
-                            .category(entry.getKey().getRCP_PAT2())
-                            .calorie(entry.getKey().getINFO_ENG())
-                            .build()
-            );
-        }
 
             //레디스 캐시 저장
             RedisRecipe saveRedisRecipe = RedisRecipe.builder()
                     .id(redisKey)
                     .recipes(recipeRecommendDto)
+                    .nextCursor(nextCursor)
                     .build();
             redisRecipeRepo.save(saveRedisRecipe);
 
+            // 북마크 여부는 캐시에 넣지 않고 조회한 회원 기준으로 덮어쓴다.
+            applyLiked(member, recipeRecommendDto);
+
             return RecipeRecommendResponseDto.builder()
                     .recipes(recipeRecommendDto)
+                    .has_next(hasNext)
+                    .next_cursor(nextCursor)
                     .build();
 
         }else{ // 레디스 캐시 있을시 출력
             RedisRecipe recipes =  redisRecipe.get();
             List<RecipeRecommendDto> recipeRecommendDto = recipes.getRecipes();
+            applyLiked(member, recipeRecommendDto);
 
             return RecipeRecommendResponseDto.builder()
                     .recipes(recipeRecommendDto)
+                    .has_next(recipes.getNextCursor() != null)
+                    .next_cursor(recipes.getNextCursor())
                     .build();
 
         }
 
     }
 
-    // 레시피 상세 조회
-    @Transactional(readOnly = true)
-    public RecipeDetailResponseDto getDetailRecipe(Long id) {
-        if (id == null) {
-            throw new IllegalArgumentException("id를 입력해주세요!");
+    // base는 정규화, foods는 정규화 후 중복 제거 + 정렬해서 입력 순서가 달라도 같은 키가 되도록 한다.
+    private String recommendCacheKey(RecipeRecommendRequestDto requestDto, int size) {
+        TreeSet<String> foods = new TreeSet<>();
+        if (requestDto.getFoods() != null) {
+            for (String food : requestDto.getFoods()) {
+                String normalized = IngredientTokenizer.normalize(food);
+                if (!normalized.isEmpty()) {
+                    foods.add(normalized);
+                }
+            }
         }
+        return IngredientTokenizer.normalize(requestDto.getBase()) + "|" + String.join(",", foods)
+                + "|" + requestDto.getCursor() + "|" + size;
+    }
 
-        Recipe recipe = recipeRepository.findById(id).orElseThrow(() -> {
-            throw new IllegalArgumentException("해당 레시피가 존재하지 않습니다.");
-        });
-
-        // 해당 내용을 Redis에 저장
+    // 한 페이지의 레시피 id로 회원의 북마크 여부를 한 번에 조회해서 채운다.
+    private void applyLiked(Member member, List<RecipeRecommendDto> recipeRecommendDto) {
+        if (recipeRecommendDto == null || recipeRecommendDto.isEmpty()) {
+            return;
+        }
+        List<Long> recipeIds = new ArrayList<>();
+        for (RecipeRecommendDto dto : recipeRecommendDto) {
+            recipeIds.add(dto.getId());
+        }
+        Set<Long> likedIds = likedRecipeResolver.findLikedRecipeIds(SecurityUtil.getCurrentMemberId(), recipeIds);
+        for (RecipeRecommendDto dto : recipeRecommendDto) {
+            dto.setLiked(likedIds.contains(dto.getId()));
+        }
+    }
 
+    // after가 비어 있으면 커서 모드 첫 페이지
+    private Long decodeAfterId(String after) {
+        if (after.isEmpty()) {
+            return null;
+        }
+        return PageCursor.decode(after, 1)[0];
+    }
 
-        // 재료들을 리스트에 담음
-        List<String> ingredientsList = new ArrayList<>();
-        if (!(recipe.getRCP_PARTS_DTLS() == null)) {
-            ingredientsList = Arrays.asList(recipe.getRCP_PARTS_DTLS().split(","));
+    // size+1개 조회 결과로 다음 페이지 여부와 다음 커서를 만든다.
+    private RecipeResponseDto recipeCursorResponse(List<RecipeSummaryDto> recipes, int size) {
+        boolean hasNext = recipes.size() > size;
+        if (hasNext) {
+            recipes = recipes.subList(0, size);
         }
+        return RecipeResponseDto.builder()
+                .recipes(converterAllResponseDto(recipes))
+                .has_next(hasNext)
+                .next_cursor(hasNext ? PageCursor.encode(recipes.get(size - 1).getId()) : null)
+                .build();
+    }
 
+    private RecipeResponseDto recipeSliceResponse(Slice<RecipeSummaryDto> recipeSlice) {
+        return RecipeResponseDto.builder()
+                .current_page_num(recipeSlice.getNumber())
+                .recipes(converterAllResponseDto(recipeSlice.getContent()))
+                .has_next(recipeSlice.hasNext())
+                .build();
+    }
 
-        // 방법들을 리스트에 담음
-        List<String> manualDescList = Arrays.asList(
-                recipe.getMANUAL01(),
-                recipe.getMANUAL02(),
-                recipe.getMANUAL03(),
-                recipe.getMANUAL04(),
-                recipe.getMANUAL05(),
-                recipe.getMANUAL06());
+    // 색인에서 뽑은 id 순서를 유지하면서 목록 화면용 컬럼만 조회 (삭제된 레시피는 건너뜀)
+    private List<RecipeSummaryDto> findSummariesInOrder(List<Long> recipeIds) {
+        if (recipeCatalog.isLoaded()) {
+            return toSummaries(recipeCatalog.findAll(recipeIds));
+        }
+        Map<Long, RecipeSummaryDto> recipeMap = new HashMap<>();
+        for (RecipeSummaryDto recipe : recipeRepository.findSummariesByIdIn(recipeIds)) {
+            recipeMap.put(recipe.getId(), recipe);
+        }
+        List<RecipeSummaryDto> recipes = new ArrayList<>();
+        for (Long recipeId : recipeIds) {
+            RecipeSummaryDto recipe = recipeMap.get(recipeId);
+            if (recipe != null) {
+                recipes.add(recipe);
+            }
+        }
+        return recipes;
+    }
 
-        // 방법의 이미지들을 리스트에 담음
-        List<String> manualImgList = Arrays.asList(
-                recipe.getMANUAL_IMG01(),
-                recipe.getMANUAL_IMG02(),
-                recipe.getMANUAL_IMG03(),
-                recipe.getMANUAL_IMG04(),
-                recipe.getMANUAL_IMG05(),
-                recipe.getMANUAL_IMG06()
-        );
+    private static List<RecipeSummaryDto> toSummaries(List<CatalogRecipe> recipes) {
+        List<RecipeSummaryDto> summaries = new ArrayList<>(recipes.size());
+        for (CatalogRecipe recipe : recipes) {
+            summaries.add(recipe.toSummary());
+        }
+        return summaries;
+    }
 
-        RecipeDetailDto detailResponseDto = RecipeDetailDto.builder()
-                .id(id)
-                .recipe_name(recipe.getRCP_NM())
-                .ingredients(ingredientsList)
-                .method(recipe.getRCP_WAY2())
-                .category(recipe.getRCP_PAT2())
-                .calorie(recipe.getINFO_ENG())
-                .carbohydrates(recipe.getINFO_CAR())
-                .proteins(recipe.getINFO_PRO())
-                .fats(recipe.getINFO_FAT())
-                .sodium(recipe.getINFO_NA())
-                .final_img(recipe.getATT_FILE_NO_MK())
-                .manual_desc(manualDescList)
-                .manual_imgs(manualImgList)
+    // 카탈로그 목록을 페이지 / count 없는 페이지 / 커서 형식으로 자른다.
+    private RecipeResponseDto catalogPage(List<CatalogRecipe> recipes, Pageable pageable, String after, boolean count) {
+        int size = pageable.getPageSize();
+        if (after != null) {
+            return recipeCursorResponse(toSummaries(RecipeCatalog.after(recipes, decodeAfterId(after), size + 1)), size);
+        }
+        int from = (int) Math.min(pageable.getOffset(), recipes.size());
+        List<RecipeSummaryDto> content = toSummaries(recipes.subList(from, Math.min(from + size, recipes.size())));
+        if (!count) {
+            return recipeSliceResponse(new SliceImpl<>(content, pageable, from + size < recipes.size()));
+        }
+        Page<RecipeSummaryDto> recipePage = new PageImpl<>(content, pageable, recipes.size());
+        return RecipeResponseDto.builder()
+                .current_page_num(recipePage.getPageable().getPageNumber())
+                .total_page_num(recipePage.getTotalPages())
+                .recipes(converterAllResponseDto(recipePage.getContent()))
                 .build();
+    }
 
+    // 카탈로그는 id 오름차순만 지원하므로 정렬 조건이 있으면 DB에서
+    private boolean useCatalog(Pageable pageable) {
+        return recipeCatalog.isLoaded() && pageable.getSort().isUnsorted();
+    }
+
+    // 레시피 상세 조회
+    @Transactional(readOnly = true)
+    public RecipeDetailResponseDto getDetailRecipe(Long id) {
+        if (id == null) {
+            throw new IllegalArgumentException("id를 입력해주세요!");
+        }
+
+        // 카탈로그에서 바로 (적재 전에는 카탈로그가 DB에서 조회하므로 별도 상세 캐시는 두지 않음)
+        CatalogRecipe recipe = recipeCatalog.find(id).orElseThrow(() -> {
+            throw new IllegalArgumentException("해당 레시피가 존재하지 않습니다.");
+        });
         return RecipeDetailResponseDto.builder()
-                .recipe(detailResponseDto)
+                .recipe(toDetailDto(id, recipe))
+                .etag(detailEtag(id, recipe.getRevision()))
+                .build();
+    }
+
+    private static RecipeDetailDto toDetailDto(Long id, CatalogRecipe recipe) {
+        return RecipeDetailDto.builder()
+                .id(id)
+                .recipe_name(recipe.getRecipeName())
+                .ingredients(new ArrayList<>(recipe.getIngredients()))
+                .method(recipe.getMethod())
+                .category(recipe.getCategory())
+                .calorie(recipe.getCalorie())
+                .carbohydrates(recipe.getCarbohydrates())
+                .proteins(recipe.getProteins())
+                .fats(recipe.getFats())
+                .sodium(recipe.getSodium())
+                .final_img(recipe.getFinalImg())
+                .manual_desc(new ArrayList<>(recipe.getManualDescs()))
+                .manual_imgs(new ArrayList<>(recipe.getManualImgs()))
                 .build();
     }
 
+    private static String detailEtag(Long id, Long revision) {
+        return "\"" + id + "-" + (revision == null ? 0 : revision) + "\"";
+    }
+
     // 레시피 전체 조회
     @Transactional(readOnly = true)
-    public RecipeResponseDto getAllRecipe(Pageable pageable) {
+    public RecipeResponseDto getAllRecipe(Pageable pageable, String after, boolean count) {
+
+        // 카탈로그에서 바로 (DB 조회 없음)
+        if (useCatalog(pageable)) {
+            return catalogPage(recipeCatalog.findAll(), pageable, after, count);
+        }
+
+        // 커서 모드 (id 오름차순 seek)
+        if (after != null) {
+            List<RecipeSummaryDto> recipes = recipeRepository.findAllAfter(decodeAfterId(after), pageable.getPageSize() + 1);
+            return recipeCursorResponse(recipes, pageable.getPageSize());
+        }
+
+        // count 없이 다음 페이지 여부만
+        if (!count) {
+            return recipeSliceResponse(recipeRepository.findAllRecipeSlice(pageable));
+        }
 
-        Page<Recipe> recipePage = recipeRepository.findAll(pageable);
+        Page<RecipeSummaryDto> recipePage = recipeRepository.findAllRecipe(pageable);
 
-        List<RecipeBasicDto> recipeBasicDtoList = converterAllResponseDto(recipePage);
+        List<RecipeBasicDto> recipeBasicDtoList = converterAllResponseDto(recipePage.getContent());
 
         return RecipeResponseDto.builder()
                 .current_page_num(recipePage.getPageable().getPageNumber())
@@ -191,7 +334,7 @@ public class RecipeService {
     }
 
     @Transactional(readOnly = true) // 레시피 종류별 요리방법별 분류
-    public RecipeResponseDto getRecipeByCategory(RecipeByCategoryRequestDto requestDto, Pageable pageable) {
+    public RecipeResponseDto getRecipeByCategory(RecipeByCategoryRequestDto requestDto, Pageable pageable, String after, boolean count) {
 
         List<String> wayByCategoryList = Arrays.asList("굽기", "끓이기", "볶기", "찌기", "튀기기", "기타");
         List<String> patByCategoryList = Arrays.asList("국&찌개", "반찬", "밥", "일품", "후식", "기타");
@@ -208,9 +351,26 @@ public class RecipeService {
             }
         }
 
-        Page<Recipe> recipePage = recipeRepository.findByCategoryRecipeOption(requestDto, pageable);
+        if (useCatalog(pageable)) {
+            List<CatalogRecipe> recipes = requestDto.getType().equals("방법")
+                    ? recipeCatalog.findByMethod(requestDto.getCategory())
+                    : recipeCatalog.findByType(requestDto.getCategory());
+            return catalogPage(recipes, pageable, after, count);
+        }
+
+        // 커서 모드 (카테고리 + id 오름차순 seek)
+        if (after != null) {
+            List<RecipeSummaryDto> recipes = recipeRepository.findByCategoryRecipeOptionAfter(requestDto, decodeAfterId(after), pageable.getPageSize() + 1);
+            return recipeCursorResponse(recipes, pageable.getPageSize());
+        }
+
+        if (!count) {
+            return recipeSliceResponse(recipeRepository.findByCategoryRecipeOptionSlice(requestDto, pageable));
+        }
 
-        List<RecipeBasicDto> recipeBasicDtoList = converterAllResponseDto(recipePage);
+        Page<RecipeSummaryDto> recipePage = recipeRepository.findByCategoryRecipeOption(requestDto, pageable);
+
+        List<RecipeBasicDto> recipeBasicDtoList = converterAllResponseDto(recipePage.getContent());
 
         return RecipeResponseDto.builder()
                 .current_page_num(recipePage.getPageable().getPageNumber())
@@ -219,15 +379,112 @@ public class RecipeService {
                 .build();
     }
 
+    // 요리방법 + 요리종류 + 칼로리 구간 + 이름 다중 필터
+    @Transactional(readOnly = true)
+    public RecipeFacetResponseDto getRecipeByFacet(RecipeFacetRequestDto requestDto, Pageable pageable) {
+        if (requestDto.getCalories() != null) {
+            for (String calorie : requestDto.getCalories()) {
+                if (!RecipeFacetIndex.CALORIE_BANDS.contains(calorie)) {
+                    throw new IllegalArgumentException("칼로리 구간이 잘못되었습니다! " + RecipeFacetIndex.CALORIE_BANDS);
+                }
+            }
+        }
+
+        long[] nameMatchIds = null;
+        if (requestDto.getRecipe_name() != null && !requestDto.getRecipe_name().isBlank()) {
+            nameMatchIds = recipeNameIndex.findRecipeIds(requestDto.getRecipe_name());
+        }
+
+        // bitset 색인에서 한 번에 결과 + 필터별 개수 계산, DB는 이번 페이지 레시피만 조회
+        FacetResult result = recipeFacetIndex.filter(requestDto.getMethods(), requestDto.getTypes(), requestDto.getCalories(),
+                nameMatchIds, (int) pageable.getOffset(), pageable.getPageSize());
+        int size = pageable.getPageSize();
+
+        return RecipeFacetResponseDto.builder()
+                .current_page_num(pageable.getPageNumber())
+                .total_page_num((result.getTotalCount() + size - 1) / size)
+                .total_count(result.getTotalCount())
+                .recipes(converterAllResponseDto(findSummariesInOrder(result.getRecipeIds())))
+                .method_counts(result.getMethodCounts())
+                .type_counts(result.getTypeCounts())
+                .calorie_counts(result.getCalorieCounts())
+                .build();
+    }
+
+    // 영양성분 범위 조회 ex) 500kcal 이하 + 단백질 30g 이상
+    @Transactional(readOnly = true)
+    public RecipeResponseDto getRecipeByNutrient(RecipeNutrientRequestDto requestDto, Pageable pageable) {
+        List<NutrientRange> ranges = new ArrayList<>();
+        addRange(ranges, Nutrient.CALORIE, requestDto.getMin_calorie(), requestDto.getMax_calorie());
+        addRange(ranges, Nutrient.CARBOHYDRATES, requestDto.getMin_carbohydrates(), requestDto.getMax_carbohydrates());
+        addRange(ranges, Nutrient.PROTEINS, requestDto.getMin_proteins(), requestDto.getMax_proteins());
+        addRange(ranges, Nutrient.FATS, requestDto.getMin_fats(), requestDto.getMax_fats());
+        addRange(ranges, Nutrient.SODIUM, requestDto.getMin_sodium(), requestDto.getMax_sodium());
+        if (ranges.isEmpty()) {
+            throw new IllegalArgumentException("영양성분 조건을 하나 이상 입력해주세요!");
+        }
+
+        // 메모리의 영양성분 배열에서 범위 교집합, DB는 이번 페이지 레시피만 조회
+        RecipeIdPage idPage = recipeNutrientIndex.query(ranges, (int) pageable.getOffset(), pageable.getPageSize());
+        int size = pageable.getPageSize();
+
+        return RecipeResponseDto.builder()
+                .current_page_num(pageable.getPageNumber())
+                .total_page_num((idPage.getTotalCount() + size - 1) / size)
+                .recipes(converterAllResponseDto(findSummariesInOrder(idPage.getRecipeIds())))
+                .build();
+    }
+
+    private void addRange(List<NutrientRange> ranges, Nutrient nutrient, Long min, Long max) {
+        if (min == null && max == null) {
+            return;
+        }
+        if (min != null && max != null && min > max) {
+            throw new IllegalArgumentException("최소값이 최대값보다 클 수 없습니다!");
+        }
+        ranges.add(new NutrientRange(nutrient, min, max));
+    }
+
     // 레시피 검색
     @Transactional(readOnly = true)
-    public RecipeSearchResponseDto searchRecipe(RecipeSearchRequestDto searchRequestDto, Pageable pageable) {
+    public RecipeSearchResponseDto searchRecipe(RecipeSearchRequestDto searchRequestDto, Pageable pageable, String after) {
+
+        String keyword = searchRequestDto.getRecipe_name();
+        if (keyword == null || keyword.isBlank()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요!");
+        }
+
+        // 커서 모드 (관련도 점수 + id 기준 seek)
+        if (after != null) {
+            int size = pageable.getPageSize();
+            SearchHits hits;
+            if (after.isEmpty()) {
+                hits = recipeTextIndex.search(keyword, 0, size + 1);
+            } else {
+                long[] keys = PageCursor.decode(after, 2);
+                hits = recipeTextIndex.searchAfter(keyword, Double.longBitsToDouble(keys[0]), keys[1], size + 1);
+            }
+            boolean hasNext = hits.getRecipeIds().size() > size;
+            List<Long> idList = hasNext ? hits.getRecipeIds().subList(0, size) : hits.getRecipeIds();
+            String nextCursor = null;
+            if (hasNext) {
+                nextCursor = PageCursor.encode(Double.doubleToLongBits(hits.getScores().get(size - 1)), idList.get(size - 1));
+            }
+            return RecipeSearchResponseDto.builder()
+                    .recipes(converterAllResponseDto(findSummariesInOrder(idList)))
+                    .search_name(keyword)
+                    .has_next(hasNext)
+                    .next_cursor(nextCursor)
+                    .did_you_mean(after.isEmpty() && idList.isEmpty() ? didYouMean(keyword) : null)
+                    .build();
+        }
 
-        // pageable과 requestdto를 이용해서 조회
-        Page<Recipe> recipePage = recipeRepository.findBySearchOption(searchRequestDto,pageable);
+        // 전문 검색 색인에서 관련도 순으로 이번 페이지 id만 뽑아서 조회
+        SearchHits hits = recipeTextIndex.search(keyword, (int) pageable.getOffset(), pageable.getPageSize());
+        Page<RecipeSummaryDto> recipePage = new PageImpl<>(findSummariesInOrder(hits.getRecipeIds()), pageable, hits.getTotalCount());
 
         // List형태로 각각 분리
-        List<RecipeBasicDto> recipeBasicDtoList = converterAllResponseDto(recipePage);
+        List<RecipeBasicDto> recipeBasicDtoList = converterAllResponseDto(recipePage.getContent());
 
         // api 설계형식에 맞게 담아줌
 
@@ -236,138 +493,207 @@ public class RecipeService {
                 .total_page_num(recipePage.getTotalPages())
                 .recipes(recipeBasicDtoList)
                 .search_name(searchRequestDto.getRecipe_name())
+                .did_you_mean(hits.getTotalCount() == 0 ? didYouMean(keyword) : null)
                 .build();
     }
 
-    // 북마크 On
-    @Transactional
-    public void likeRecipe(Long id) {
+    // 검색 결과가 없을 때 오타 교정 추천 (레시피 이름 자모 편집 거리)
+    private List<AutoCompleteDto> didYouMean(String keyword) {
+        List<AutoCompleteDto> suggestions = new ArrayList<>();
+        for (NameSuggestion suggestion : didYouMeanIndex.suggestRecipes(keyword, DID_YOU_MEAN_SIZE)) {
+            suggestions.add(AutoCompleteDto.builder()
+                    .id(suggestion.getId())
+                    .recipe_name(suggestion.getName())
+                    .build());
+        }
+        return suggestions;
+    }
 
-        Member member = memberRepository.findById(SecurityUtil.getCurrentMemberId()).orElseThrow(() -> {
-            throw new IllegalArgumentException("로그인한 유저를 찾을 수 없습니다.");
-        });
-        Recipe recipe = recipeRepository.findById(id).orElseThrow(() -> {
+    // 북마크 On (회원별 Redis set 에 바로 반영, DB 는 BookmarkStore 가 모아서 반영)
+    public void likeRecipe(Long id) {
+        recipeCatalog.find(id).orElseThrow(() -> {
             throw  new IllegalArgumentException("해당 레시피를 찾을 수 없습니다.");
         });
-        LikeRecipe findLikeRecipe = likeRecipeRepository.findByMember_IdAndRecipe_Id(member.getId(), recipe.getId());
-        if (!(findLikeRecipe == null)) {
+        Long memberId = SecurityUtil.getCurrentMemberId();
+        if (!bookmarkStore.add(memberId, id)) {
             throw new IllegalArgumentException("이미 북마크된 레시피 입니다.");
         }
-        LikeRecipe likeRecipe = LikeRecipe.builder()
-                .member(member)
-                .recipe(recipe)
-                .build();
-        likeRecipeRepository.save(likeRecipe);
+        recipePopularity.recordBookmark(memberId, id);
     }
 
     // 북마크 Off
-    @Transactional
     public void unlikeRecipe(Long id) {
-        Member member = memberRepository.findById(SecurityUtil.getCurrentMemberId()).orElseThrow(() -> {
-            throw new IllegalArgumentException("로그인한 유저를 찾을 수 없습니다.");
-        });
-        Recipe recipe = recipeRepository.findById(id).orElseThrow(() -> {
+        recipeCatalog.find(id).orElseThrow(() -> {
             throw  new IllegalArgumentException("해당 레시피를 찾을 수 없습니다.");
         });
-        LikeRecipe likeRecipe = likeRecipeRepository.findByMember_IdAndRecipe_Id(member.getId(), recipe.getId());
-        if (likeRecipe == null) {
+        if (!bookmarkStore.remove(SecurityUtil.getCurrentMemberId(), id)) {
             throw new IllegalArgumentException("이미 삭제한 레시피입니다.");
         }
-        likeRecipeRepository.delete(likeRecipe);
     }
 
-    // 북마크 조회
+    // 인기 레시피 (북마크 / 요리 완료 / 식단 등록 점수, 최근일수록 높게)
     @Transactional(readOnly = true)
-    public RecipeBookmarkResponseDto getBookmark(Pageable pageable) {
-        Member member = memberRepository.findById(SecurityUtil.getCurrentMemberId()).orElseThrow(() -> {
-            throw new IllegalArgumentException("로그인한 유저를 찾을 수 없습니다.");
-        });
+    public RecipeResponseDto getTrendingRecipe(int size) {
+        List<Long> recipeIds = recipePopularity.findTopRecipeIds(Math.min(Math.max(size, 1), TRENDING_MAX_SIZE));
+        return RecipeResponseDto.builder()
+                .recipes(converterAllResponseDto(findSummariesInOrder(recipeIds)))
+                .build();
+    }
 
-        // pageable과 memberId 를 이용해서 조회
-        Page<LikeRecipe> likeRecipeList = likeRecipeRepository.findByMember_Id(member.getId(), pageable);
+    // 이 레시피를 요리/북마크한 회원들이 함께 요리/북마크한 레시피 (매일 미리 계산한 목록)
+    @Transactional(readOnly = true)
+    public RecipeResponseDto getAlsoCookedRecipe(Long id, int size) {
+        List<Long> recipeIds = alsoCookedIndex.findNeighbors(id, Math.min(Math.max(size, 1), AlsoCookedIndex.NEIGHBOR_SIZE));
+        return RecipeResponseDto.builder()
+                .recipes(converterAllResponseDto(findSummariesInOrder(recipeIds)))
+                .build();
+    }
+
+    // 북마크 조회 (북마크 + 레시피 + 회원 이름 join 쿼리 1회)
+    // 북마크 여부는 Redis set 기준: 아직 DB 에 반영되지 않은 해제는 빼고, 새 북마크는 마지막 페이지 뒤에 붙인다.
+    @Transactional(readOnly = true)
+    public RecipeBookmarkResponseDto getBookmark(Pageable pageable, String after) {
+        Long memberId = SecurityUtil.getCurrentMemberId();
+        Set<Long> likedIds = bookmarkStore.findRecipeIds(memberId);
+        int size = pageable.getPageSize();
+
+        // 커서 모드 (북마크 순서대로 seek)
+        if (after != null) {
+            Long afterId = decodeAfterId(after);
+            List<RecipeSummaryDto> likeRecipes = recipeRepository.findBookmarkSummariesAfter(memberId, afterId, size + 1);
+            boolean hasNext = likeRecipes.size() > size;
+            if (hasNext) {
+                likeRecipes = likeRecipes.subList(0, size);
+            }
+            List<RecipeBasicDto> recipes = converterBookmarkDto(memberId, likeRecipes, likedIds, !hasNext);
+            if (recipes.isEmpty() && !hasNext) {
+                if (afterId == null) {
+                    throw new IllegalArgumentException("사용자가 북마크한 레시피가 없습니다.");
+                }
+                return RecipeBookmarkResponseDto.builder()
+                        .recipes(recipes)
+                        .build();
+            }
+            return RecipeBookmarkResponseDto.builder()
+                    .user_name(SecurityUtil.getCurrentUsername())
+                    .recipes(recipes)
+                    .has_next(hasNext)
+                    .next_cursor(hasNext ? PageCursor.encode(likeRecipes.get(size - 1).getBookmarkId()) : null)
+                    .build();
+        }
+
+        // pageable과 memberId 를 이용해서 조회 (북마크 + 레시피 목록용 컬럼 join)
+        // 전체 개수 대신 size+1개를 조회해서 다음 페이지 여부만 판단 (목록과 같은 like_recipe 기준)
+        List<RecipeSummaryDto> likeRecipeList = recipeRepository.findBookmarkSummaries(memberId, pageable.getOffset(), size + 1);
+        boolean hasNext = likeRecipeList.size() > size;
+        if (hasNext) {
+            likeRecipeList = likeRecipeList.subList(0, size);
+        }
+        List<RecipeBasicDto> recipes = converterBookmarkDto(memberId, likeRecipeList, likedIds, !hasNext);
 
         // member가 북마크한 레시피가 없으면
-        if (likeRecipeList.getContent().isEmpty()) {
-            throw new IllegalArgumentException("사용자가 북마크한 레시피가 없습니다.");
+        if (recipes.isEmpty() && !hasNext) {
+            if (pageable.getPageNumber() == 0) {
+                throw new IllegalArgumentException("사용자가 북마크한 레시피가 없습니다.");
+            }
+            return RecipeBookmarkResponseDto.builder()
+                    .current_page_num(pageable.getPageNumber())
+                    .recipes(recipes)
+                    .build();
         }
 
-        List<RecipeBasicDto> recipeBookmarkResponseDtoList = new ArrayList<>();
+        return RecipeBookmarkResponseDto.builder()
+                .user_name(SecurityUtil.getCurrentUsername())
+                .current_page_num(pageable.getPageNumber())
+                .recipes(recipes)
+                .has_next(hasNext)
+                .build();
+    }
+
+    // Redis set 에 없는 행(반영 전 해제)은 빼고, 마지막 페이지면 아직 like_recipe 에 없는 새 북마크를 뒤에 붙인다.
+    private List<RecipeBasicDto> converterBookmarkDto(Long memberId, List<RecipeSummaryDto> likeRecipeList,
+                                                      Set<Long> likedIds, boolean lastPage) {
+        List<RecipeSummaryDto> recipes = new ArrayList<>();
+        for (RecipeSummaryDto likeRecipe : likeRecipeList) {
+            if (likedIds.contains(likeRecipe.getId())) {
+                recipes.add(likeRecipe);
+            }
+        }
+        if (lastPage) {
+            recipes.addAll(findSummariesInOrder(bookmarkStore.findUnflushedRecipeIds(memberId, likedIds)));
+        }
 
-        for (LikeRecipe likeRecipe : likeRecipeList) {
-            List<String> mainIngredientsList = Arrays.asList(likeRecipe.getRecipe().getMAIN_INGREDIENTS().split(","));
+        List<RecipeBasicDto> recipeBookmarkResponseDtoList = new ArrayList<>();
+        for (RecipeSummaryDto likeRecipe : recipes) {
+            List<String> mainIngredientsList = IngredientTokenizer.split(likeRecipe.getMainIngredients());
             recipeBookmarkResponseDtoList.add(
                     RecipeBasicDto.builder()
-                            .id(likeRecipe.getRecipe().getId())
-                            .recipe_name(likeRecipe.getRecipe().getRCP_NM())
+                            .id(likeRecipe.getId())
+                            .recipe_name(likeRecipe.getRecipeName())
                             .ingredients(mainIngredientsList)
-                            .final_img(likeRecipe.getRecipe().getATT_FILE_NO_MK())
-                            .method(likeRecipe.getRecipe().getRCP_WAY2())
-                            .category(likeRecipe.getRecipe().getRCP_PAT2())
-                            .calorie(likeRecipe.getRecipe().getINFO_ENG())
+                            .final_img(likeRecipe.getFinalImg())
+                            .method(likeRecipe.getMethod())
+                            .category(likeRecipe.getCategory())
+                            .calorie(likeRecipe.getCalorie())
                             .liked(true)
                             .build()
             );
         }
-
-        return RecipeBookmarkResponseDto.builder()
-                .user_name(member.getUsername())
-                .current_page_num(likeRecipeList.getPageable().getPageNumber())
-                .total_page_num(likeRecipeList.getTotalPages())
-                .recipes(recipeBookmarkResponseDtoList)
-                .build();
+        return recipeBookmarkResponseDtoList;
     }
 
     // 검색어 자동완성
     @Transactional(readOnly = true)
     public AutoCompleteResponseDto getAutoComplete(AutoCompleteRequestDto requestDto) {
 
-        List<Recipe> recipeList = recipeRepository.findAllByRCP_NM(requestDto.getKeyword());
+        // DB 조회 없이 이름 색인에서 상위 N개만 (앞부분 일치 우선)
+        List<RecipeNameHit> hits = recipeNameIndex.search(requestDto.getKeyword(), AUTO_COMPLETE_SIZE);
         List<AutoCompleteDto> autoCompleteResponseList = new ArrayList<>();
 
         boolean empty = false;
 
-        if (recipeList.isEmpty()) {
+        if (hits.isEmpty()) {
             empty = true;
         }
 
-        for (Recipe recipe : recipeList) {
+        for (RecipeNameHit hit : hits) {
             autoCompleteResponseList.add(
                     AutoCompleteDto.builder()
-                            .id(recipe.getId())
-                            .recipe_name(recipe.getRCP_NM())
+                            .id(hit.getRecipeId())
+                            .recipe_name(hit.getRecipeName())
                             .build()
             );
         }
-        
+
         return AutoCompleteResponseDto.builder()
                 .empty(empty)
                 .recipes(autoCompleteResponseList)
                 .build();
     }
 
-    private List<RecipeBasicDto> converterAllResponseDto(Page<Recipe> recipes) {
-        Member member = memberRepository.findById(SecurityUtil.getCurrentMemberId()).orElseThrow(() -> {
-            throw new IllegalArgumentException("로그인한 유저를 찾을 수 없습니다.");
-        });
+    private List<RecipeBasicDto> converterAllResponseDto(List<RecipeSummaryDto> recipes) {
+        // 회원 조회 없이 토큰의 회원 id 로 페이지의 북마크 여부를 한 번에 조회
+        List<Long> recipeIds = new ArrayList<>();
+        for (RecipeSummaryDto recipe : recipes) {
+            recipeIds.add(recipe.getId());
+        }
+        Set<Long> likedIds = likedRecipeResolver.findLikedRecipeIds(SecurityUtil.getCurrentMemberId(), recipeIds);
+
         List<RecipeBasicDto> recipeBasicDtoList = new ArrayList<>();
-        for (Recipe recipe : recipes){
-            List<String> mainIngredientsList = new ArrayList<>();
-            if (!(recipe.getMAIN_INGREDIENTS() == null)) {
-                mainIngredientsList = Arrays.asList(recipe.getMAIN_INGREDIENTS().split(","));
-            }
+        for (RecipeSummaryDto recipe : recipes){
+            List<String> mainIngredientsList = IngredientTokenizer.split(recipe.getMainIngredients());
 
-            LikeRecipe likeRecipe = likeRecipeRepository.findByMember_IdAndRecipe_Id(member.getId(),recipe.getId());
-            boolean liked = !(likeRecipe == null);
+            boolean liked = likedIds.contains(recipe.getId());
 
             recipeBasicDtoList.add(
                     RecipeBasicDto.builder()
                             .id(recipe.getId())
-                            .recipe_name(recipe.getRCP_NM())
+                            .recipe_name(recipe.getRecipeName())
                             .ingredients(mainIngredientsList)
-                            .final_img(recipe.getATT_FILE_NO_MK())
-                            .method(recipe.getRCP_WAY2())
-                            .category(recipe.getRCP_PAT2())
-                            .calorie(recipe.getINFO_ENG())
+                            .final_img(recipe.getFinalImg())
+                            .method(recipe.getMethod())
+                            .category(recipe.getCategory())
+                            .calorie(recipe.getCalorie())
                             .liked(liked)
                             .build()
             );
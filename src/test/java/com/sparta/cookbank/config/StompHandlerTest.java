@@ -0,0 +1,88 @@
+package com.sparta.cookbank.config;
+
+import com.sparta.cookbank.repository.ChatRoomRepository;
+import com.sparta.cookbank.security.TokenProvider;
+import com.sparta.cookbank.service.ChatService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StompHandlerTest {
+
+    @Mock
+    TokenProvider tokenProvider;
+    @Mock
+    ChatRoomRepository chatRoomRepository;
+    @Mock
+    ChatService chatService;
+    @Mock
+    MessageChannel channel;
+
+    StompHandler stompHandler;
+
+    @BeforeEach
+    void setup() {
+        stompHandler = new StompHandler(tokenProvider, chatRoomRepository, chatService);
+    }
+
+    private static Message<byte[]> message(StompCommand command, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId("session");
+        accessor.setNativeHeader("Authorization", "Bearer token");
+        if (destination != null) {
+            accessor.setDestination(destination);
+        }
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    @Test
+    @DisplayName("CONNECT 때 회원 id 를 세션 Principal 로 등록한다")
+    void connectSetsUser() {
+        when(tokenProvider.getMemberId("token")).thenReturn(10L);
+
+        Message<?> message = stompHandler.preSend(message(StompCommand.CONNECT, null), channel);
+
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        assertThat(accessor.getUser().getName()).isEqualTo("10");
+    }
+
+    @Test
+    @DisplayName("와일드카드 구독은 거부하고 채팅방 입장 처리도 하지 않는다")
+    void rejectWildcardSubscribe() {
+        when(tokenProvider.getMemberId("token")).thenReturn(10L);
+
+        for (String destination : new String[]{"/api/sub/**", "/api/sub/*/5", "/api/sub/expiry/?", "/api/sub/{id}"}) {
+            assertThatThrownBy(() -> stompHandler.preSend(message(StompCommand.SUBSCRIBE, destination), channel))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("구독 경로에 와일드카드를 사용할 수 없습니다.");
+        }
+        verifyNoInteractions(chatRoomRepository, chatService);
+    }
+
+    @Test
+    @DisplayName("개인 알림은 /user 경로로만 구독할 수 있다")
+    void userDestinationSubscribe() {
+        when(tokenProvider.getMemberId("token")).thenReturn(10L);
+
+        stompHandler.preSend(message(StompCommand.SUBSCRIBE, "/user/queue/expiry"), channel);
+        assertThatThrownBy(() -> stompHandler.preSend(message(StompCommand.SUBSCRIBE, "/queue/expiry-usersession"), channel))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(chatRoomRepository, chatService);
+    }
+}
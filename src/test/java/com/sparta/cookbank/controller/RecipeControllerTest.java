@@ -7,6 +7,7 @@ import com.sparta.cookbank.domain.recipe.dto.RecipeRecommendRequestDto;
 import com.sparta.cookbank.domain.recipe.dto.RecipeRecommendDto;
 import com.sparta.cookbank.domain.recipe.dto.RecipeRecommendResponseDto;
 import com.sparta.cookbank.security.TokenProvider;
+import com.sparta.cookbank.service.RecipeImportService;
 import com.sparta.cookbank.service.RecipeService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -55,6 +56,9 @@ class RecipeControllerTest {
     @MockBean
     private RecipeService recipeService;
 
+    @MockBean
+    private RecipeImportService recipeImportService;
+
     @BeforeEach
     public void setUp(@Autowired WebApplicationContext applicationContext) {
         this.mockMvc = MockMvcBuilders.webAppContextSetup(applicationContext)
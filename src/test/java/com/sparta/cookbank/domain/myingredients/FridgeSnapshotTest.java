@@ -0,0 +1,54 @@
+package com.sparta.cookbank.domain.myingredients;
+
+import com.sparta.cookbank.domain.Storage;
+import com.sparta.cookbank.domain.ingredient.enums.FoodCategory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FridgeSnapshotTest {
+
+    LocalDate today = LocalDate.of(2022, 10, 1);
+
+    FridgeItem item(Long id, FoodCategory category, Storage storage, int daysLeft) {
+        long day = today.toEpochDay();
+        return new FridgeItem(id, "icon", "mark", "food" + id, category, storage, day - 1, day + daysLeft);
+    }
+
+    @Test
+    @DisplayName("유통기한 기준으로 만료 / 임박 / 여유 재료를 나눈다")
+    void splitByExpDate() {
+        FridgeSnapshot fridge = FridgeSnapshot.of(List.of(
+                item(1L, FoodCategory.육류, Storage.refrigerated, 10),
+                item(2L, FoodCategory.채소류, Storage.refrigerated, -2),
+                item(3L, FoodCategory.어패류, Storage.freeze, 0),
+                item(4L, FoodCategory.음료류, Storage.room_temp, 5)
+        ), today);
+
+        assertThat(fridge.getItems()).extracting(FridgeItem::getId).containsExactly(2L, 3L, 4L, 1L);
+        assertThat(fridge.getExpired()).extracting(FridgeItem::getId).containsExactly(2L);
+        assertThat(fridge.getInHurry()).extracting(FridgeItem::getId).containsExactly(3L);
+        assertThat(fridge.getFineCount()).isEqualTo(2);
+        assertThat(fridge.daysLeft(fridge.getItems().get(0))).isEqualTo(-2);
+    }
+
+    @Test
+    @DisplayName("보관 방법 / 재료 분류별 목록도 유통기한 순서")
+    void groupByStorageAndCategory() {
+        FridgeSnapshot fridge = FridgeSnapshot.of(List.of(
+                item(1L, FoodCategory.육류, Storage.refrigerated, 10),
+                item(2L, FoodCategory.난류, Storage.refrigerated, 3),
+                item(3L, FoodCategory.기타, Storage.room_temp, 1)
+        ), today);
+
+        assertThat(fridge.byStorage(Storage.refrigerated)).extracting(FridgeItem::getId).containsExactly(2L, 1L);
+        assertThat(fridge.byStorage(Storage.freeze)).isEmpty();
+        assertThat(fridge.byGroup(FridgeGroup.livestock)).extracting(FridgeItem::getId).containsExactly(2L, 1L);
+        assertThat(fridge.byGroup(FridgeGroup.etc)).extracting(FridgeItem::getId).containsExactly(3L);
+        assertThat(FridgeGroup.from("unknown")).isNull();
+    }
+}
@@ -0,0 +1,26 @@
+package com.sparta.cookbank.domain.myingredients;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MyIngredientDateTest {
+
+    @Test
+    @DisplayName("한 자리 월/일도 읽는다")
+    void parseUnpadded() {
+        assertThat(MyIngredientDate.parse("2022-9-1")).isEqualTo(LocalDate.of(2022, 9, 1));
+        assertThat(MyIngredientDate.parse(" 2022-10-01 ")).isEqualTo(LocalDate.of(2022, 10, 1));
+    }
+
+    @Test
+    @DisplayName("없는 날짜나 다른 형식은 null")
+    void rejectInvalid() {
+        assertThat(MyIngredientDate.parse("2022-02-30")).isNull();
+        assertThat(MyIngredientDate.parse("2022/10/01")).isNull();
+        assertThat(MyIngredientDate.parse(null)).isNull();
+    }
+}
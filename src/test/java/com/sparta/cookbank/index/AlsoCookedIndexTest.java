@@ -0,0 +1,51 @@
+package com.sparta.cookbank.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class AlsoCookedIndexTest {
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    AlsoCookedIndex alsoCookedIndex;
+
+    @BeforeEach
+    void setup() {
+        alsoCookedIndex = new AlsoCookedIndex(jdbcTemplate);
+        // 회원별 요리/북마크한 레시피
+        alsoCookedIndex.index(List.of(
+                Set.of(1L, 2L, 3L),
+                Set.of(1L, 2L),
+                Set.of(1L, 4L),
+                Set.of(5L)
+        ));
+    }
+
+    @Test
+    @DisplayName("함께 요리한 회원이 많을수록 앞 (코사인 유사도)")
+    void neighbors() {
+        // 2: 2/sqrt(3*2)=0.82, 3: 1/sqrt(3*1)=0.58, 4: 1/sqrt(3*1)=0.58 (동점은 id 순)
+        assertThat(alsoCookedIndex.findNeighbors(1L, 10)).containsExactly(2L, 3L, 4L);
+        assertThat(alsoCookedIndex.findNeighbors(4L, 10)).containsExactly(1L);
+        assertThat(alsoCookedIndex.findNeighbors(1L, 1)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("혼자만 요리한 레시피나 기록 없는 레시피는 빈 목록")
+    void empty() {
+        assertThat(alsoCookedIndex.findNeighbors(5L, 10)).isEmpty();
+        assertThat(alsoCookedIndex.findNeighbors(99L, 10)).isEmpty();
+    }
+}
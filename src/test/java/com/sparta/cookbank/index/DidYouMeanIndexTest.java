@@ -0,0 +1,58 @@
+package com.sparta.cookbank.index;
+
+import com.sparta.cookbank.domain.ingredient.Ingredient;
+import com.sparta.cookbank.domain.recipe.Recipe;
+import com.sparta.cookbank.repository.IngredientsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DidYouMeanIndexTest {
+
+    @Mock
+    IngredientsRepository ingredientsRepository;
+
+    DidYouMeanIndex didYouMeanIndex;
+
+    @BeforeEach
+    void setup() {
+        List<Recipe> recipeList = List.of(
+                Recipe.builder().id(1L).RCP_NM("김치찌개").build(),
+                Recipe.builder().id(2L).RCP_NM("된장찌개").build(),
+                Recipe.builder().id(3L).RCP_NM("돼지고기 김치볶음").build()
+        );
+        when(ingredientsRepository.findAll()).thenReturn(Collections.<Ingredient>emptyList());
+        didYouMeanIndex = new DidYouMeanIndex(ingredientsRepository);
+        didYouMeanIndex.build(recipeList.stream().map(CatalogRecipe::of).collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("한 음절 오타는 자모 거리가 가까운 이름부터")
+    void typo() {
+        List<NameSuggestion> suggestions = didYouMeanIndex.suggestRecipes("김치찌게", 5);
+
+        assertThat(suggestions).extracting(NameSuggestion::getId).containsExactly(1L);
+        assertThat(suggestions.get(0).getDistance()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("띄어쓰기로 나뉜 단어로도 찾는다")
+    void word() {
+        List<Long> ids = didYouMeanIndex.suggestRecipes("김치볶믐", 5).stream()
+                .map(NameSuggestion::getId)
+                .collect(Collectors.toList());
+
+        assertThat(ids).containsExactly(3L);
+    }
+}
@@ -0,0 +1,73 @@
+package com.sparta.cookbank.index;
+
+import com.sparta.cookbank.domain.recipe.Recipe;
+import com.sparta.cookbank.repository.RecipeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RecipeCatalogTest {
+
+    @Mock
+    RecipeRepository recipeRepository;
+
+    @Mock
+    RecipeCatalogListener recipeCatalogListener;
+
+    RecipeCatalog recipeCatalog;
+
+    @BeforeEach
+    void setup() {
+        List<Recipe> recipeList = List.of(
+                Recipe.builder().id(3L).RCP_NM("된장찌개").RCP_WAY2("끓이기").RCP_PARTS_DTLS("된장, 두부").build(),
+                Recipe.builder().id(1L).RCP_NM("김치찌개").RCP_WAY2("끓이기").RCP_PARTS_DTLS("김치, 돼지고기").build(),
+                Recipe.builder().id(2L).RCP_NM("제육볶음").RCP_WAY2("볶기").build()
+        );
+        when(recipeRepository.findAll()).thenReturn(recipeList);
+        recipeCatalog = new RecipeCatalog(recipeRepository, List.of(recipeCatalogListener));
+        recipeCatalog.build();
+    }
+
+    @Test
+    @DisplayName("id 오름차순 목록 + 재료 목록 미리 분리")
+    void build() {
+        assertThat(recipeCatalog.findAll()).extracting(CatalogRecipe::getId).containsExactly(1L, 2L, 3L);
+        assertThat(recipeCatalog.findByMethod("끓이기")).extracting(CatalogRecipe::getId).containsExactly(1L, 3L);
+        assertThat(recipeCatalog.find(1L).get().getIngredients()).containsExactly("김치", "돼지고기");
+        assertThat(recipeCatalog.find(4L)).isEmpty();
+        // 색인은 DB를 다시 읽지 않고 카탈로그 목록으로 구성
+        verify(recipeCatalogListener).build(recipeCatalog.findAll());
+        verify(recipeRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("레시피가 바뀌면 새 스냅샷으로 교체하고 색인에 알린다")
+    void apply() {
+        Recipe changed = Recipe.builder().id(2L).RCP_NM("제육볶음").RCP_WAY2("끓이기").build();
+
+        recipeCatalog.apply(changed);
+
+        assertThat(recipeCatalog.getVersion()).isEqualTo(2);
+        assertThat(recipeCatalog.findByMethod("끓이기")).extracting(CatalogRecipe::getId).containsExactly(1L, 2L, 3L);
+        verify(recipeCatalogListener).update(recipeCatalog.find(2L).get());
+    }
+
+    @Test
+    @DisplayName("커서 다음부터 limit개")
+    void after() {
+        List<CatalogRecipe> page = RecipeCatalog.after(recipeCatalog.findAll(), 1L, 1);
+
+        assertThat(page).extracting(CatalogRecipe::getId).containsExactly(2L);
+    }
+}
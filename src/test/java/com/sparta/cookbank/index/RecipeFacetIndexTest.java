@@ -0,0 +1,56 @@
+package com.sparta.cookbank.index;
+
+import com.sparta.cookbank.domain.recipe.Recipe;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecipeFacetIndexTest {
+
+    RecipeFacetIndex recipeFacetIndex;
+
+    @BeforeEach
+    void setup() {
+        List<Recipe> recipeList = List.of(
+                Recipe.builder().id(1L).RCP_WAY2("끓이기").RCP_PAT2("국&찌개").INFO_ENG(150L).build(),
+                Recipe.builder().id(2L).RCP_WAY2("볶기").RCP_PAT2("반찬").INFO_ENG(320L).build(),
+                Recipe.builder().id(3L).RCP_WAY2("끓이기").RCP_PAT2("반찬").INFO_ENG(450L).build(),
+                Recipe.builder().id(4L).RCP_WAY2("굽기").RCP_PAT2("일품").INFO_ENG(700L).build()
+        );
+        recipeFacetIndex = new RecipeFacetIndex();
+        recipeFacetIndex.build(recipeList.stream().map(CatalogRecipe::of).collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("필터끼리는 AND, 같은 필터 안에서는 OR")
+    void filter() {
+        FacetResult result = recipeFacetIndex.filter(List.of("끓이기", "볶기"), List.of("반찬"), null, null, 0, 10);
+
+        assertThat(result.getRecipeIds()).containsExactly(2L, 3L);
+        assertThat(result.getTotalCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("필터별 개수는 자기 필터를 뺀 나머지 조건 기준")
+    void counts() {
+        FacetResult result = recipeFacetIndex.filter(List.of("끓이기"), null, null, null, 0, 10);
+
+        assertThat(result.getMethodCounts()).containsEntry("끓이기", 2).containsEntry("볶기", 1).containsEntry("굽기", 1);
+        assertThat(result.getTypeCounts()).containsEntry("국&찌개", 1).containsEntry("반찬", 1);
+        assertThat(result.getCalorieCounts()).containsEntry("~200", 1).containsEntry("400~600", 1).containsEntry("600~", 0);
+    }
+
+    @Test
+    @DisplayName("이름 검색 결과와 페이지")
+    void nameAndPage() {
+        FacetResult result = recipeFacetIndex.filter(null, null, null, new long[]{1L, 3L, 4L}, 1, 1);
+
+        assertThat(result.getRecipeIds()).containsExactly(3L);
+        assertThat(result.getTotalCount()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,101 @@
+package com.sparta.cookbank.index;
+
+import com.sparta.cookbank.domain.recipe.Recipe;
+import com.sparta.cookbank.domain.recipe.dto.RecipeFixRequestDto;
+import com.sparta.cookbank.repository.RecipeIngredientRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RecipeIngredientIndexTest {
+
+    @Mock
+    RecipeIngredientRepository recipeIngredientRepository;
+
+    RecipeIngredientIndex recipeIngredientIndex;
+
+    @BeforeEach
+    void setup() {
+        // recipe_ingredient 행 (레시피 id, 정규화된 토큰)
+        List<RecipeIngredientRepository.RecipeTokenView> rows = new ArrayList<>();
+        addRows(rows, 1L, "고등어", "무", "양파", "마늘");
+        addRows(rows, 2L, "고등어살", "간장", "마늘");
+        addRows(rows, 3L, "닭고기", "양파", "고추");
+        when(recipeIngredientRepository.findAllTokens()).thenReturn(rows);
+        recipeIngredientIndex = new RecipeIngredientIndex(recipeIngredientRepository);
+        recipeIngredientIndex.build(Collections.emptyList());
+    }
+
+    private static void addRows(List<RecipeIngredientRepository.RecipeTokenView> rows, Long recipeId, String... tokens) {
+        for (String token : tokens) {
+            rows.add(new RecipeIngredientRepository.RecipeTokenView() {
+                @Override
+                public Long getRecipeId() {
+                    return recipeId;
+                }
+
+                @Override
+                public String getToken() {
+                    return token;
+                }
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("재료명이 포함된 레시피 조회")
+    void findRecipeIds() {
+        assertThat(recipeIngredientIndex.findRecipeIds("고등어")).containsExactly(1L, 2L);
+        assertThat(recipeIngredientIndex.findRecipeIds(" 양 파")).containsExactly(1L, 3L);
+        assertThat(recipeIngredientIndex.findRecipeIds("")).containsExactly(1L, 2L, 3L);
+        assertThat(recipeIngredientIndex.findRecipeIds("소고기")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("서브 재료 일치 개수 계산")
+    void countMatches() {
+        long[] recipeIds = recipeIngredientIndex.findRecipeIds("고등어");
+
+        int[] counts = recipeIngredientIndex.countMatches(recipeIds, List.of("양파", "마늘", "간장"));
+
+        assertThat(counts).containsExactly(2, 2);
+    }
+
+    @Test
+    @DisplayName("추천 순위 커서 페이지네이션")
+    void rank() {
+        List<String> foods = List.of("무", "양파", "마늘");
+
+        List<RankedRecipe> firstPage = recipeIngredientIndex.rank("", foods, null, 2);
+        List<RankedRecipe> secondPage = recipeIngredientIndex.rank("", foods, firstPage.get(1), 2);
+
+        assertThat(firstPage).extracting(RankedRecipe::getRecipeId).containsExactly(1L, 2L);
+        assertThat(firstPage).extracting(RankedRecipe::getMatchCount).containsExactly(3, 1);
+        assertThat(secondPage).extracting(RankedRecipe::getRecipeId).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("레시피 재료 수정 시 재색인")
+    void update() {
+        RecipeFixRequestDto requestDto = new RecipeFixRequestDto();
+        requestDto.setIngredients("닭고기, 감자");
+        Recipe recipe = Recipe.builder().id(3L).RCP_PARTS_DTLS("닭고기, 양파, 고추").build();
+        recipe.SetMainRecipe(requestDto);
+
+        recipeIngredientIndex.update(CatalogRecipe.of(recipe));
+
+        assertThat(recipeIngredientIndex.findRecipeIds("양파")).containsExactly(1L);
+        assertThat(recipeIngredientIndex.findRecipeIds("감자")).containsExactly(3L);
+    }
+}
@@ -0,0 +1,78 @@
+package com.sparta.cookbank.index;
+
+import com.sparta.cookbank.domain.recipe.Recipe;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecipeNameIndexTest {
+
+    RecipeNameIndex recipeNameIndex;
+
+    @BeforeEach
+    void setup() {
+        List<Recipe> recipeList = List.of(
+                Recipe.builder().id(1L).RCP_NM("두부김치").build(),
+                Recipe.builder().id(2L).RCP_NM("김치 찌개").build(),
+                Recipe.builder().id(3L).RCP_NM("김치볶음밥").build(),
+                Recipe.builder().id(4L).RCP_NM("된장찌개").build()
+        );
+        recipeNameIndex = new RecipeNameIndex();
+        recipeNameIndex.build(recipeList.stream().map(CatalogRecipe::of).collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("앞부분 일치가 중간 일치보다 먼저 나온다")
+    void search() {
+        List<RecipeNameHit> hits = recipeNameIndex.search("김치", 10);
+
+        assertThat(hits).extracting(RecipeNameHit::getRecipeId).containsExactly(2L, 3L, 1L);
+        assertThat(hits.get(0).getRecipeName()).isEqualTo("김치 찌개");
+    }
+
+    @Test
+    @DisplayName("공백 무시 + 결과 개수 제한")
+    void searchLimit() {
+        assertThat(recipeNameIndex.search("치찌", 10)).extracting(RecipeNameHit::getRecipeId).containsExactly(2L);
+        assertThat(recipeNameIndex.search("찌개", 1)).extracting(RecipeNameHit::getRecipeId).containsExactly(2L);
+        assertThat(recipeNameIndex.search("", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("레시피 이름 변경 시 재색인")
+    void update() {
+        recipeNameIndex.update(CatalogRecipe.of(Recipe.builder().id(4L).RCP_NM("김치전").build()));
+
+        assertThat(recipeNameIndex.search("김치", 10)).extracting(RecipeNameHit::getRecipeId).containsExactly(2L, 3L, 4L, 1L);
+        assertThat(recipeNameIndex.search("된장", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("레시피 추가 / 삭제 시 병합 결과가 전체 재색인과 같다")
+    void updateMatchesBuild() {
+        recipeNameIndex.update(CatalogRecipe.of(Recipe.builder().id(0L).RCP_NM("김치김치전").build()));
+        recipeNameIndex.update(CatalogRecipe.of(Recipe.builder().id(5L).RCP_NM("열무김치").build()));
+        recipeNameIndex.update(CatalogRecipe.of(Recipe.builder().id(2L).build()));
+
+        RecipeNameIndex rebuilt = new RecipeNameIndex();
+        rebuilt.build(List.of(
+                CatalogRecipe.of(Recipe.builder().id(0L).RCP_NM("김치김치전").build()),
+                CatalogRecipe.of(Recipe.builder().id(1L).RCP_NM("두부김치").build()),
+                CatalogRecipe.of(Recipe.builder().id(3L).RCP_NM("김치볶음밥").build()),
+                CatalogRecipe.of(Recipe.builder().id(4L).RCP_NM("된장찌개").build()),
+                CatalogRecipe.of(Recipe.builder().id(5L).RCP_NM("열무김치").build())));
+        for (String keyword : List.of("김치", "치", "찌개", "전", "열무")) {
+            assertThat(recipeNameIndex.search(keyword, 10)).extracting(RecipeNameHit::getRecipeId)
+                    .containsExactlyElementsOf(rebuilt.search(keyword, 10).stream().map(RecipeNameHit::getRecipeId).collect(Collectors.toList()));
+            assertThat(recipeNameIndex.findRecipeIds(keyword)).containsExactly(rebuilt.findRecipeIds(keyword));
+        }
+        // 이름에 검색어가 두 번 있어도 한 번만
+        assertThat(recipeNameIndex.search("김치", 10)).extracting(RecipeNameHit::getRecipeId).containsExactly(0L, 3L, 1L, 5L);
+        assertThat(recipeNameIndex.search("김치", 2)).extracting(RecipeNameHit::getRecipeId).containsExactly(0L, 3L);
+    }
+}
@@ -0,0 +1,55 @@
+package com.sparta.cookbank.index;
+
+import com.sparta.cookbank.domain.recipe.Recipe;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecipeNutrientIndexTest {
+
+    RecipeNutrientIndex recipeNutrientIndex;
+
+    @BeforeEach
+    void setup() {
+        List<Recipe> recipeList = List.of(
+                Recipe.builder().id(1L).INFO_ENG(300L).INFO_PRO(35L).INFO_NA(400L).build(),
+                Recipe.builder().id(2L).INFO_ENG(450L).INFO_PRO(20L).INFO_NA(300L).build(),
+                Recipe.builder().id(3L).INFO_ENG(700L).INFO_PRO(40L).INFO_NA(200L).build(),
+                Recipe.builder().id(4L).INFO_ENG(500L).INFO_PRO(30L).INFO_NA(900L).build(),
+                Recipe.builder().id(5L).INFO_ENG(200L).build()
+        );
+        recipeNutrientIndex = new RecipeNutrientIndex();
+        recipeNutrientIndex.build(recipeList.stream().map(CatalogRecipe::of).collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("여러 영양성분 범위 교집합")
+    void query() {
+        List<NutrientRange> ranges = List.of(
+                new NutrientRange(Nutrient.CALORIE, null, 500L),
+                new NutrientRange(Nutrient.PROTEINS, 30L, null),
+                new NutrientRange(Nutrient.SODIUM, null, 500L)
+        );
+
+        RecipeIdPage result = recipeNutrientIndex.query(ranges, 0, 10);
+
+        assertThat(result.getRecipeIds()).containsExactly(1L);
+        assertThat(result.getTotalCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("값이 없는 레시피는 해당 조건에서 제외 + 페이지")
+    void queryPage() {
+        RecipeIdPage calorie = recipeNutrientIndex.query(List.of(new NutrientRange(Nutrient.CALORIE, 200L, 500L)), 1, 2);
+        RecipeIdPage protein = recipeNutrientIndex.query(List.of(new NutrientRange(Nutrient.PROTEINS, 0L, null)), 0, 10);
+
+        assertThat(calorie.getTotalCount()).isEqualTo(4);
+        assertThat(calorie.getRecipeIds()).containsExactly(2L, 4L);
+        assertThat(protein.getRecipeIds()).containsExactly(1L, 2L, 3L, 4L);
+    }
+}
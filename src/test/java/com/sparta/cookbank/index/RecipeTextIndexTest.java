@@ -0,0 +1,60 @@
+package com.sparta.cookbank.index;
+
+import com.sparta.cookbank.domain.recipe.Recipe;
+import com.sparta.cookbank.domain.recipe.dto.RecipeFixRequestDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecipeTextIndexTest {
+
+    RecipeTextIndex recipeTextIndex;
+
+    @BeforeEach
+    void setup() {
+        List<Recipe> recipeList = List.of(
+                Recipe.builder().id(1L).RCP_NM("김치찌개").RCP_PARTS_DTLS("김치, 돼지고기, 두부").build(),
+                Recipe.builder().id(2L).RCP_NM("된장찌개").RCP_PARTS_DTLS("된장, 두부, 애호박").build(),
+                Recipe.builder().id(3L).RCP_NM("두부김치").RCP_PARTS_DTLS("두부, 김치, 돼지고기").build()
+        );
+        recipeTextIndex = new RecipeTextIndex();
+        recipeTextIndex.build(recipeList.stream().map(CatalogRecipe::of).collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("한글 bigram 검색")
+    void search() {
+        assertThat(recipeTextIndex.search("찌개", 0, 10).getRecipeIds()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(recipeTextIndex.search("김치 찌개", 0, 10).getRecipeIds()).containsExactly(1L);
+        assertThat(recipeTextIndex.search("두", 0, 10).getTotalCount()).isEqualTo(3);
+        assertThat(recipeTextIndex.search("소고기", 0, 10).getRecipeIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이름에 검색어가 있는 레시피가 먼저 나온다")
+    void searchRanking() {
+        SearchHits hits = recipeTextIndex.search("두부", 0, 1);
+
+        assertThat(hits.getTotalCount()).isEqualTo(3);
+        assertThat(hits.getRecipeIds()).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("레시피 재료 수정 시 재색인")
+    void update() {
+        RecipeFixRequestDto requestDto = new RecipeFixRequestDto();
+        requestDto.setIngredients("된장, 감자");
+        Recipe recipe = Recipe.builder().id(2L).RCP_NM("된장찌개").RCP_PARTS_DTLS("된장, 두부, 애호박").build();
+        recipe.SetMainRecipe(requestDto);
+
+        recipeTextIndex.update(CatalogRecipe.of(recipe));
+
+        assertThat(recipeTextIndex.search("감자", 0, 10).getRecipeIds()).containsExactly(2L);
+        assertThat(recipeTextIndex.search("애호박", 0, 10).getRecipeIds()).isEmpty();
+    }
+}
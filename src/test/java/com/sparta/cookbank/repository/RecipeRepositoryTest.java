@@ -2,24 +2,22 @@ package com.sparta.cookbank.repository;
 
 import com.sparta.cookbank.config.TestQueryDslConfig;
 import com.sparta.cookbank.domain.recipe.Recipe;
-import com.sparta.cookbank.domain.recipe.dto.RecipeSearchRequestDto;
+import com.sparta.cookbank.domain.recipe.dto.RecipeSummaryDto;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
-import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 
 import javax.persistence.EntityManager;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @DataJpaTest
 @ActiveProfiles("test1")
@@ -45,64 +43,51 @@ class RecipeRepositoryTest {
     }
 
     @Nested
-    @DisplayName("RecommendRecipe")
-    class RecommendRecipeTest {
+    @DisplayName("CursorRecipe")
+    class CursorTest {
 
         @Test
-        @DisplayName("레시피 추천 테스트")
-        void RecommendRecipe_Normal() {
+        @DisplayName("커서 다음 레시피 조회 테스트")
+        void FindAllAfter_Normal() {
             // given
-            setRecipe();
+            Recipe first = setRecipe();
+            Recipe second = setRecipe();
+            Recipe third = setRecipe();
             entityManager.clear();
-            String base = "고등어";
 
             // when
-            List<Recipe> recipeList = recipeRepository.findByRecommendRecipeOption(base);
+            List<RecipeSummaryDto> firstPage = recipeRepository.findAllAfter(null, 2);
+            List<RecipeSummaryDto> nextPage = recipeRepository.findAllAfter(firstPage.get(1).getId(), 2);
 
             // then
-            assertThat(recipeList.get(0).getRCP_PARTS_DTLS()).contains(base);
+            assertThat(firstPage).extracting(RecipeSummaryDto::getId).containsExactly(first.getId(), second.getId());
+            assertThat(nextPage).extracting(RecipeSummaryDto::getId).containsExactly(third.getId());
         }
     }
 
     @Nested
-    @DisplayName("SearchRecipe")
-    class SearchTest{
+    @DisplayName("CountRecipe")
+    class CountTest {
 
         @Test
-        @DisplayName("레시피 검색 테스트")
-        void RecipeSearch_Normal() {
+        @DisplayName("전체 개수 + count 없는 조회 테스트")
+        void FindAllRecipe_Count() {
             // given
             setRecipe();
-            entityManager.clear();
-            String recipe_name = "고등어";
-            Pageable pageable = Pageable.ofSize(5);
-            RecipeSearchRequestDto requestDto = new RecipeSearchRequestDto(recipe_name);
-
-            //when
-            Page<Recipe> recipePage = recipeRepository.findBySearchOption(requestDto, pageable);
-
-            //then
-            List<Recipe> recipeList = recipePage.getContent();
-            assertThat(recipeList.get(0).getRCP_NM()).contains(recipe_name);
-        }
-
-        @Test
-        @DisplayName("레시피 검색 실패 테스트")
-        void RecipeSearch_Fail() {
-            // given
+            setRecipe();
             setRecipe();
             entityManager.clear();
-            String recipe_name = "";
-            Pageable pageable = Pageable.ofSize(5);
-            RecipeSearchRequestDto requestDto = new RecipeSearchRequestDto(recipe_name);
+            Pageable pageable = Pageable.ofSize(2);
 
             // when
-            Exception exception = assertThrows(InvalidDataAccessApiUsageException.class, () -> {
-                recipeRepository.findBySearchOption(requestDto, pageable);
-            });
+            Page<RecipeSummaryDto> recipePage = recipeRepository.findAllRecipe(pageable);
+            Slice<RecipeSummaryDto> recipeSlice = recipeRepository.findAllRecipeSlice(pageable);
 
             // then
-            assertEquals("검색어를 입력해주세요!", exception.getMessage());
+            assertThat(recipePage.getTotalElements()).isEqualTo(3);
+            assertThat(recipePage.getTotalPages()).isEqualTo(2);
+            assertThat(recipeSlice.getContent()).hasSize(2);
+            assertThat(recipeSlice.hasNext()).isTrue();
         }
     }
 
@@ -0,0 +1,89 @@
+package com.sparta.cookbank.service;
+
+import com.sparta.cookbank.repository.LikeRecipeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BookmarkStoreTest {
+
+    @Mock
+    StringRedisTemplate stringRedisTemplate;
+    @Mock
+    ValueOperations<String, String> valueOperations;
+    @Mock
+    ListOperations<String, String> listOperations;
+    @Mock
+    LikeRecipeRepository likeRecipeRepository;
+    @Mock
+    JdbcTemplate jdbcTemplate;
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    BookmarkStore bookmarkStore;
+
+    @BeforeEach
+    void setup() {
+        bookmarkStore = new BookmarkStore(stringRedisTemplate, likeRecipeRepository, jdbcTemplate, transactionTemplate);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("다른 서버가 반영 중이면 변경 목록을 읽지도 지우지도 않는다")
+    void skipWhenLocked() {
+        when(valueOperations.setIfAbsent(eq("bookmark:pending:lock"), anyString(), any(Duration.class))).thenReturn(false);
+
+        bookmarkStore.flush();
+
+        verify(stringRedisTemplate, never()).opsForList();
+        verify(stringRedisTemplate, never()).execute(any(RedisScript.class), anyList(), any(), any());
+        verifyNoInteractions(jdbcTemplate, transactionTemplate);
+    }
+
+    @Test
+    @DisplayName("잠금을 잡으면 마지막 동작만 반영하고, 반영한 개수만큼 지우면서 잠금을 푼다")
+    @SuppressWarnings("unchecked")
+    void flushUnderLock() {
+        when(valueOperations.setIfAbsent(eq("bookmark:pending:lock"), anyString(), any(Duration.class))).thenReturn(true);
+        when(stringRedisTemplate.opsForList()).thenReturn(listOperations);
+        when(listOperations.range("bookmark:pending", 0, 499)).thenReturn(List.of("1:5:+", "1:6:+", "1:5:-"));
+        doAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn(1L);
+
+        bookmarkStore.flush();
+
+        ArgumentCaptor<List<Object[]>> deletes = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<Object[]>> upserts = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("delete"), deletes.capture());
+        verify(jdbcTemplate).batchUpdate(startsWith("insert"), upserts.capture());
+        assertThat(deletes.getValue()).extracting(row -> row[1]).containsExactly(5L);
+        assertThat(upserts.getValue()).extracting(row -> row[1]).containsExactly(6L);
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of("bookmark:pending:lock", "bookmark:pending")),
+                anyString(), eq("3"));
+        verify(listOperations, never()).trim(anyString(), anyLong(), anyLong());
+    }
+}
@@ -0,0 +1,67 @@
+package com.sparta.cookbank.service;
+
+import com.sparta.cookbank.domain.myingredients.dto.ExpiryNotificationDto;
+import com.sparta.cookbank.domain.myingredients.dto.InHurryIngredientDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExpiryNotifierTest {
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+    @Mock
+    SimpMessageSendingOperations messagingTemplate;
+
+    ExpiryNotifier expiryNotifier;
+    LocalDate today = LocalDate.now();
+
+    @BeforeEach
+    void setup() {
+        expiryNotifier = new ExpiryNotifier(jdbcTemplate, messagingTemplate);
+        expiryNotifier.advance();
+    }
+
+    @Test
+    @DisplayName("오늘 / 내일 만료되는 재료만 회원별로 묶어서 보낸다")
+    void notifyExpiring() {
+        expiryNotifier.add(1L, 10L, "서울우유", "우유", today);
+        expiryNotifier.add(2L, 10L, "", "두부", today);
+        expiryNotifier.add(3L, 10L, "", "계란", today.plusDays(1));
+        expiryNotifier.add(4L, 20L, "", "양파", today.plusDays(3));
+
+        expiryNotifier.notifyExpiring();
+
+        ArgumentCaptor<ExpiryNotificationDto> captor = ArgumentCaptor.forClass(ExpiryNotificationDto.class);
+        verify(messagingTemplate, times(2)).convertAndSendToUser(eq("10"), eq("/queue/expiry"), captor.capture());
+        assertThat(captor.getAllValues()).extracting(ExpiryNotificationDto::getD_date).containsExactly("D-Day", "D-1");
+        assertThat(captor.getAllValues().get(0).getIngredients())
+                .extracting(InHurryIngredientDto::getFood_name).containsExactly("우유", "두부");
+        verify(messagingTemplate, never()).convertAndSendToUser(eq("20"), any(), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("삭제된 재료는 알림에서 빠진다")
+    void removedIngredient() {
+        expiryNotifier.add(1L, 10L, "", "우유", today);
+        expiryNotifier.remove(1L);
+
+        expiryNotifier.notifyExpiring();
+
+        verifyNoInteractions(messagingTemplate);
+    }
+}
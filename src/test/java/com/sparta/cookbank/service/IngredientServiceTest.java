@@ -0,0 +1,154 @@
+package com.sparta.cookbank.service;
+
+import com.sparta.cookbank.domain.ingredient.Ingredient;
+import com.sparta.cookbank.domain.member.Member;
+import com.sparta.cookbank.domain.myingredients.dto.IngredientListRequestDto;
+import com.sparta.cookbank.domain.myingredients.dto.IngredientRequestDto;
+import com.sparta.cookbank.index.DidYouMeanIndex;
+import com.sparta.cookbank.repository.IngredientsRepository;
+import com.sparta.cookbank.repository.MemberRepository;
+import com.sparta.cookbank.repository.MyIngredientsRepository;
+import com.sparta.cookbank.security.TokenProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IngredientServiceTest {
+
+    @Mock
+    IngredientsRepository ingredientsRepository;
+    @Mock
+    MemberRepository memberRepository;
+    @Mock
+    MyIngredientsRepository myIngredientsRepository;
+    @Mock
+    TokenProvider tokenProvider;
+    @Mock
+    DidYouMeanIndex didYouMeanIndex;
+    @Mock
+    FridgeSnapshots fridgeSnapshots;
+    @Mock
+    ExpiryNotifier expiryNotifier;
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    IngredientService ingredientService;
+    MockHttpServletRequest request = new MockHttpServletRequest();
+
+    @BeforeEach
+    void setup() {
+        ingredientService = new IngredientService(ingredientsRepository, memberRepository, myIngredientsRepository,
+                tokenProvider, didYouMeanIndex, fridgeSnapshots, expiryNotifier, jdbcTemplate);
+        request.addHeader("Authorization", "Bearer token");
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("1,user", null));
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(Member.builder().id(1L).build()));
+    }
+
+    @AfterEach
+    void logout() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static IngredientListRequestDto listOf(IngredientRequestDto... items) {
+        IngredientListRequestDto requestDto = new IngredientListRequestDto();
+        requestDto.setIngredients(List.of(items));
+        return requestDto;
+    }
+
+    private static IngredientRequestDto item(Long id, String storage, String inDate, String expDate) {
+        return new IngredientRequestDto(id, null, null, storage, inDate, expDate);
+    }
+
+    private static Ingredient ingredient(Long id, String foodName) {
+        return Ingredient.builder().id(id).foodName(foodName).markName("").build();
+    }
+
+    @Test
+    @DisplayName("하나라도 잘못된 재료가 있으면 아무것도 추가하지 않는다")
+    void rejectAllWhenOneInvalid() {
+        IngredientListRequestDto requestDto = listOf(
+                item(10L, "freeze", "2022-10-01", "2022-10-05"),
+                item(20L, "refrigerated", "2022-10-05", "2022-10-01"));
+
+        assertThatThrownBy(() -> ingredientService.saveMyIngredients(requestDto, request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("입주날짜가 유통기한보다 이전날짜입니다.");
+
+        verifyNoInteractions(ingredientsRepository, jdbcTemplate, fridgeSnapshots, expiryNotifier);
+    }
+
+    @Test
+    @DisplayName("없는 식재료가 섞여 있으면 아무것도 추가하지 않는다")
+    void rejectAllWhenIngredientMissing() {
+        IngredientListRequestDto requestDto = listOf(
+                item(10L, "freeze", "2022-10-01", "2022-10-05"),
+                item(99L, "freeze", "2022-10-01", "2022-10-05"));
+        when(ingredientsRepository.findAllById(anyCollection())).thenReturn(List.of(ingredient(10L, "우유")));
+
+        assertThatThrownBy(() -> ingredientService.saveMyIngredients(requestDto, request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("해당 음식 재료가 존재 하지 않습니다.");
+
+        verifyNoInteractions(jdbcTemplate, fridgeSnapshots, expiryNotifier);
+    }
+
+    @Test
+    @DisplayName("batch insert 로 생성된 id 를 요청 순서대로 만료 알림에 연결한다")
+    void generatedKeysInRequestOrder() throws Exception {
+        IngredientListRequestDto requestDto = listOf(
+                item(20L, "room_temp", "2022-10-01", "2022-10-03"),
+                item(10L, "freeze", "2022-10-02", "2022-10-09"));
+        when(ingredientsRepository.findAllById(anyCollection()))
+                .thenReturn(List.of(ingredient(10L, "우유"), ingredient(20L, "두부")));
+
+        // JDBC batch: 생성된 key 는 101, 102 순서
+        Connection connection = mock(Connection.class);
+        PreparedStatement ps = mock(PreparedStatement.class);
+        ResultSet keys = mock(ResultSet.class);
+        when(connection.prepareStatement(startsWith("insert into my_ingredients"), anyInt())).thenReturn(ps);
+        when(ps.getGeneratedKeys()).thenReturn(keys);
+        when(keys.next()).thenReturn(true, true, false);
+        when(keys.getLong(1)).thenReturn(101L, 102L);
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenAnswer(invocation -> {
+            ConnectionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInConnection(connection);
+        });
+
+        ingredientService.saveMyIngredients(requestDto, request);
+
+        InOrder rows = inOrder(ps);
+        rows.verify(ps).setObject(2, 20L);
+        rows.verify(ps).setObject(4, Date.valueOf("2022-10-01"));
+        rows.verify(ps).addBatch();
+        rows.verify(ps).setObject(2, 10L);
+        rows.verify(ps).setObject(5, Date.valueOf("2022-10-09"));
+        rows.verify(ps).addBatch();
+        rows.verify(ps).executeBatch();
+        verify(fridgeSnapshots, times(1)).evict(1L);
+        verify(expiryNotifier).add(101L, 1L, "", "두부", LocalDate.of(2022, 10, 3));
+        verify(expiryNotifier).add(102L, 1L, "", "우유", LocalDate.of(2022, 10, 9));
+    }
+}
@@ -0,0 +1,142 @@
+package com.sparta.cookbank.service;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.cookbank.domain.recipe.dto.RecipeImportResponseDto;
+import com.sparta.cookbank.index.RecipeCatalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecipeImportServiceTest {
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+    @Mock
+    TransactionTemplate transactionTemplate;
+    @Mock
+    RecipeIngredientService recipeIngredientService;
+    @Mock
+    RecipeCatalog recipeCatalog;
+
+    RecipeImportService recipeImportService;
+
+    @BeforeEach
+    void setup() {
+        recipeImportService = new RecipeImportService(new ObjectMapper(), jdbcTemplate, transactionTemplate,
+                recipeIngredientService, recipeCatalog);
+        // 청크 트랜잭션은 바로 실행
+        lenient().doAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    private static InputStream json(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> capturedRows(String sqlPrefix) {
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith(sqlPrefix), captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    @DisplayName("공공데이터 응답 형식에서 row 배열을 읽고, 잘못된 레시피는 사유와 함께 제외한다")
+    void importWrappedRows() throws Exception {
+        when(jdbcTemplate.batchUpdate(startsWith("insert"), anyList())).thenReturn(new int[]{1});
+
+        RecipeImportResponseDto response = recipeImportService.importRecipes(json(
+                "{\"COOKRCP01\":{\"total_count\":\"4\",\"row\":[" +
+                        "{\"RCP_NM\":\" 김치찌개 \",\"INFO_ENG\":\"123.6\",\"RCP_PARTS_DTLS\":\"김치, 돼지고기\"}," +
+                        "{\"RCP_WAY2\":\"끓이기\"}," +
+                        "{\"RCP_NM\":\"된장찌개\",\"INFO_NA\":\"많음\"}," +
+                        "{\"id\":0,\"RCP_NM\":\"순두부\"}" +
+                        "]}}"));
+
+        assertThat(response.getTotal_count()).isEqualTo(4);
+        assertThat(response.getInserted_count()).isEqualTo(1);
+        assertThat(response.getSkipped_count()).isEqualTo(3);
+        assertThat(response.getErrors()).containsExactly(
+                "2번째 레시피: RCP_NM 이 없습니다.",
+                "3번째 레시피: INFO_NA 숫자 형식이 아닙니다.",
+                "4번째 레시피: id 가 올바르지 않습니다.");
+
+        // TEXT_FIELDS, NUMBER_FIELDS 순서 (앞뒤 공백 제거, 숫자는 반올림)
+        Object[] row = capturedRows("insert").get(0);
+        assertThat(row[0]).isEqualTo("김치찌개");
+        assertThat(row[5]).isEqualTo("김치, 돼지고기");
+        assertThat(row[19]).isEqualTo(124L);
+        verify(recipeCatalog).reload();
+    }
+
+    @Test
+    @DisplayName("id 가 있으면 값이 있는 항목만 수정하고, 없는 레시피는 제외한다")
+    void importUpdates() throws Exception {
+        when(jdbcTemplate.batchUpdate(startsWith("update"), anyList())).thenReturn(new int[]{1, 0});
+
+        RecipeImportResponseDto response = recipeImportService.importRecipes(json(
+                "[{\"id\":1,\"INFO_ENG\":\"300\"},{\"id\":99,\"RCP_NM\":\"없는 레시피\"}]"));
+
+        assertThat(response.getUpdated_count()).isEqualTo(1);
+        assertThat(response.getSkipped_count()).isEqualTo(1);
+        assertThat(response.getErrors()).containsExactly("id 99: 해당 레시피가 존재하지 않습니다.");
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).batchUpdate(sql.capture(), anyList());
+        assertThat(sql.getValue()).contains("rcp_nm = coalesce(?, rcp_nm)", "revision = coalesce(revision, 0) + 1 where id = ?");
+        // 값이 없는 항목은 null (기존 값 유지), id 는 마지막 자리
+        Object[] row = capturedRows("update").get(0);
+        assertThat(row[0]).isNull();
+        assertThat(row[19]).isEqualTo(300L);
+        assertThat(row[row.length - 1]).isEqualTo(1L);
+        verify(recipeIngredientService).resync(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("JSON 뒷부분이 깨져도 이미 커밋된 청크는 카탈로그와 재료 행에 반영한다")
+    void refreshAfterMalformedTail() {
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < 500; i++) {
+            body.append("{\"RCP_NM\":\"레시피").append(i).append("\"},");
+        }
+        body.append("{\"RCP_NM\":");
+
+        assertThatThrownBy(() -> recipeImportService.importRecipes(json(body.toString())))
+                .isInstanceOf(JsonParseException.class);
+
+        verify(recipeIngredientService).backfill();
+        verify(recipeCatalog).reload();
+    }
+
+    @Test
+    @DisplayName("레시피 배열이 없으면 아무것도 반영하지 않는다")
+    void rejectWithoutRows() {
+        assertThatThrownBy(() -> recipeImportService.importRecipes(json("{\"COOKRCP01\":{\"total_count\":\"0\"}}")))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(jdbcTemplate, recipeCatalog);
+    }
+}
@@ -0,0 +1,46 @@
+package com.sparta.cookbank.service;
+
+import com.sparta.cookbank.domain.recipe.Recipe;
+import com.sparta.cookbank.domain.recipe.RecipeIngredient;
+import com.sparta.cookbank.index.IngredientTokenizer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class RecipeIngredientServiceTest {
+
+    @Test
+    @DisplayName("재료 목록 순서대로 행을 만들고, 중복 재료는 한 번만, 목록에 없는 메인 재료는 뒤에 붙인다")
+    void toRows() {
+        Recipe recipe = Recipe.builder()
+                .id(1L)
+                .RCP_PARTS_DTLS("닭 가슴살, 양파,닭가슴살 , 마늘,")
+                .MAIN_INGREDIENTS("닭가슴살, 브로콜리")
+                .build();
+
+        List<RecipeIngredient> rows = RecipeIngredientService.toRows(recipe);
+
+        assertThat(rows).extracting(RecipeIngredient::getPosition, RecipeIngredient::getRawText,
+                RecipeIngredient::getToken, RecipeIngredient::isMain).containsExactly(
+                tuple(0, "닭 가슴살", "닭가슴살", true),
+                tuple(1, "양파", "양파", false),
+                tuple(2, "마늘", "마늘", false),
+                tuple(3, "브로콜리", "브로콜리", true));
+        assertThat(rows).allMatch(row -> row.getRecipe() == recipe);
+        // 재료 색인이 수정 시 쓰는 토큰과 같은 순서 / 같은 값
+        assertThat(rows).extracting(RecipeIngredient::getToken)
+                .containsExactlyElementsOf(IngredientTokenizer.recipeTokens(recipe.getRCP_PARTS_DTLS(), recipe.getMAIN_INGREDIENTS()));
+    }
+
+    @Test
+    @DisplayName("재료 문자열이 없으면 행도 없다")
+    void toRowsWithoutIngredients() {
+        Recipe recipe = Recipe.builder().id(1L).build();
+
+        assertThat(RecipeIngredientService.toRows(recipe)).isEmpty();
+    }
+}
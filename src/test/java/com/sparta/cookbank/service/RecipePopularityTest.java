@@ -0,0 +1,158 @@
+package com.sparta.cookbank.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecipePopularityTest {
+
+    private static final long HALF_LIFE = TimeUnit.DAYS.toMillis(3);
+
+    @Mock
+    StringRedisTemplate stringRedisTemplate;
+    @Mock
+    ValueOperations<String, String> valueOperations;
+    @Mock
+    SetOperations<String, String> setOperations;
+
+    RecipePopularity recipePopularity;
+    // 증가 스크립트가 받은 인자 (기준 시각, 레시피 id, 증가량, ...)
+    List<Object[]> increments = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        recipePopularity = new RecipePopularity(stringRedisTemplate);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    private void epochAgo(long millis) {
+        when(valueOperations.get("recipe:trending:epoch")).thenReturn(String.valueOf(System.currentTimeMillis() - millis));
+    }
+
+    private Answer<Long> recordIncrement(long result) {
+        return invocation -> {
+            increments.add(Arrays.copyOfRange(invocation.getArguments(), 2, invocation.getArguments().length));
+            return result;
+        };
+    }
+
+    private void incrementSucceeds() {
+        doAnswer(recordIncrement(1L)).when(stringRedisTemplate).execute(eq(RecipePopularity.INCREMENT_SCRIPT), anyList(), any());
+    }
+
+    // 마지막 반영에서 레시피의 증가량
+    private double incremented(String recipeId) {
+        Object[] args = increments.get(increments.size() - 1);
+        for (int i = 1; i < args.length; i += 2) {
+            if (recipeId.equals(args[i])) {
+                return Double.parseDouble((String) args[i + 1]);
+            }
+        }
+        throw new AssertionError("증가량 없음: " + recipeId);
+    }
+
+    @Test
+    @DisplayName("기준 시각에서 반감기 한 번이 지나면 가중치를 2배로 더한다")
+    void decayFactor() {
+        epochAgo(HALF_LIFE);
+        incrementSucceeds();
+        recipePopularity.record(1L, RecipePopularity.BOOKMARK);
+        recipePopularity.record(1L, RecipePopularity.DONE);
+
+        recipePopularity.flush();
+
+        assertThat(incremented("1")).isCloseTo(16.0, within(0.01));
+        verify(stringRedisTemplate, never()).execute(eq(RecipePopularity.REBASE_SCRIPT), anyList(), any());
+    }
+
+    @Test
+    @DisplayName("반감기 40번이 넘게 지나면 스크립트 한 번으로 점수를 줄이고 기준 시각을 옮긴다")
+    void rebase() {
+        epochAgo(HALF_LIFE * 41);
+        incrementSucceeds();
+        when(stringRedisTemplate.execute(eq(RecipePopularity.REBASE_SCRIPT), anyList(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> invocation.getArgument(4)); // 옮긴 기준 시각 (now)
+        recipePopularity.record(2L, RecipePopularity.CALENDAR);
+
+        recipePopularity.flush();
+
+        ArgumentCaptor<Object> weight = ArgumentCaptor.forClass(Object.class);
+        ArgumentCaptor<Object> now = ArgumentCaptor.forClass(Object.class);
+        verify(stringRedisTemplate).execute(eq(RecipePopularity.REBASE_SCRIPT), eq(List.of("recipe:trending", "recipe:trending:epoch")),
+                weight.capture(), eq("0.01"), now.capture(), any());
+        assertThat(Double.parseDouble((String) weight.getValue())).isCloseTo(Math.pow(2, -41), within(1e-15));
+        // 기준 시각이 지금이 되었으므로 가중치 그대로, 옮긴 기준 시각으로 비교
+        assertThat(incremented("2")).isCloseTo(2.0, within(0.01));
+        assertThat(increments.get(0)[0]).isEqualTo(now.getValue());
+    }
+
+    @Test
+    @DisplayName("Redis 반영에 실패하면 쌓인 점수를 다음 주기에 다시 반영한다")
+    void retryAfterFailure() {
+        epochAgo(0);
+        recipePopularity.record(3L, RecipePopularity.DONE);
+        doThrow(new RedisConnectionFailureException("connection refused"))
+                .doAnswer(recordIncrement(1L))
+                .when(stringRedisTemplate).execute(eq(RecipePopularity.INCREMENT_SCRIPT), anyList(), any());
+
+        recipePopularity.flush();
+        assertThat(increments).isEmpty();
+
+        recipePopularity.record(3L, RecipePopularity.BOOKMARK);
+        recipePopularity.flush();
+
+        assertThat(incremented("3")).isCloseTo(8.0, within(0.01));
+    }
+
+    @Test
+    @DisplayName("다른 서버가 기준 시각을 옮겼으면 반영하지 않고 다음 주기에 새 기준 시각으로 다시 계산한다")
+    void retryAfterEpochMoved() {
+        epochAgo(HALF_LIFE);
+        recipePopularity.record(4L, RecipePopularity.DONE);
+        doAnswer(recordIncrement(0L))
+                .doAnswer(recordIncrement(1L))
+                .when(stringRedisTemplate).execute(eq(RecipePopularity.INCREMENT_SCRIPT), anyList(), any());
+
+        recipePopularity.flush();
+        recipePopularity.flush();
+
+        assertThat(increments).hasSize(2);
+        assertThat(incremented("4")).isCloseTo(10.0, within(0.01));
+    }
+
+    @Test
+    @DisplayName("북마크는 회원마다 레시피당 처음 한 번만 점수에 반영한다")
+    void bookmarkOncePerMember() {
+        when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.add("recipe:trending:bookmarked:5", "1")).thenReturn(1L, 0L);
+        epochAgo(0);
+        incrementSucceeds();
+
+        recipePopularity.recordBookmark(1L, 5L);
+        recipePopularity.recordBookmark(1L, 5L); // 해제 후 다시 북마크
+
+        recipePopularity.flush();
+
+        assertThat(incremented("5")).isCloseTo(3.0, within(0.01));
+    }
+}
@@ -3,11 +3,25 @@ package com.sparta.cookbank.service;
 import com.sparta.cookbank.domain.recipe.Recipe;
 import com.sparta.cookbank.domain.recipe.dto.AutoCompleteRequestDto;
 import com.sparta.cookbank.domain.recipe.dto.AutoCompleteResponseDto;
+import com.sparta.cookbank.domain.recipe.dto.RecipeBasicDto;
+import com.sparta.cookbank.domain.recipe.dto.RecipeBookmarkResponseDto;
 import com.sparta.cookbank.domain.recipe.dto.RecipeDetailResponseDto;
+import com.sparta.cookbank.domain.recipe.dto.RecipeResponseDto;
+import com.sparta.cookbank.domain.recipe.dto.RecipeSummaryDto;
+import com.sparta.cookbank.index.AlsoCookedIndex;
+import com.sparta.cookbank.index.CatalogRecipe;
+import com.sparta.cookbank.index.DidYouMeanIndex;
+import com.sparta.cookbank.index.RecipeCatalog;
+import com.sparta.cookbank.index.RecipeFacetIndex;
+import com.sparta.cookbank.index.RecipeIngredientIndex;
+import com.sparta.cookbank.index.RecipeNameHit;
+import com.sparta.cookbank.index.RecipeNameIndex;
+import com.sparta.cookbank.index.RecipeNutrientIndex;
+import com.sparta.cookbank.index.RecipeTextIndex;
 import com.sparta.cookbank.redis.recipe.RedisRecipeRepo;
-import com.sparta.cookbank.repository.LikeRecipeRepository;
 import com.sparta.cookbank.repository.MemberRepository;
 import com.sparta.cookbank.repository.RecipeRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -16,12 +30,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
@@ -33,7 +52,7 @@ class RecipeServiceTest {
     RecipeRepository recipeRepository;
 
     @Mock
-    LikeRecipeRepository likeRecipeRepository;
+    BookmarkStore bookmarkStore;
 
     @Mock
     MemberRepository memberRepository;
@@ -44,9 +63,40 @@ class RecipeServiceTest {
     @Mock
     RedisRecipeRepo redisRecipeRepo;
 
+    @Mock
+    RecipeIngredientIndex recipeIngredientIndex;
+
+    @Mock
+    LikedRecipeResolver likedRecipeResolver;
+
+    @Mock
+    RecipeTextIndex recipeTextIndex;
+
+    @Mock
+    RecipeNameIndex recipeNameIndex;
+
+    @Mock
+    RecipeFacetIndex recipeFacetIndex;
+
+    @Mock
+    RecipeNutrientIndex recipeNutrientIndex;
+    @Mock
+    DidYouMeanIndex didYouMeanIndex;
+
+    @Mock
+    RecipeCatalog recipeCatalog;
+
+    @Mock
+    RecipePopularity recipePopularity;
+
+    @Mock
+    AlsoCookedIndex alsoCookedIndex;
+
     @BeforeEach
     void setup() {
-        this.recipeService =new RecipeService(recipeRepository,likeRecipeRepository, memberRepository,redisRecipeRepo);
+        this.recipeService =new RecipeService(recipeRepository,bookmarkStore, memberRepository,redisRecipeRepo,
+                recipeIngredientIndex, likedRecipeResolver, recipeTextIndex, recipeNameIndex, recipeFacetIndex,
+                recipeNutrientIndex, didYouMeanIndex, recipeCatalog, recipePopularity, alsoCookedIndex);
     }
 
     @Nested
@@ -58,13 +108,14 @@ class RecipeServiceTest {
             // given
             Long recipeId = 1L;
 
-            when(recipeRepository.findById(recipeId)).thenReturn(Optional.of(new Recipe()));
+            when(recipeCatalog.find(recipeId)).thenReturn(Optional.of(CatalogRecipe.of(new Recipe())));
             // when
 
             RecipeDetailResponseDto result = recipeService.getDetailRecipe(recipeId);
             //then
-            verify(recipeRepository, times(1)).findById(recipeId);
+            verify(recipeCatalog, times(1)).find(recipeId);
             assertThat(result.getRecipe().getId()).isEqualTo(recipeId);
+            assertThat(result.getEtag()).isEqualTo("\"1-0\"");
         }
 
         @Test
@@ -109,24 +160,122 @@ class RecipeServiceTest {
             String keyword = "마늘";
 
             AutoCompleteRequestDto requestDto = new AutoCompleteRequestDto(keyword);
-            List<Recipe> recipeList = new ArrayList<>();
+            List<RecipeNameHit> hitList = new ArrayList<>();
             for (long i = 0; i < 5; i++) {
-                recipeList.add(
-                        Recipe.builder()
-                                .id(i)
-                                .RCP_NM("마늘된장찌개" + i)
-                                .build()
-                );
+                hitList.add(new RecipeNameHit(i, "마늘된장찌개" + i));
             }
 
 
-            when(recipeRepository.findAllByRCP_NM(requestDto.getKeyword())).thenReturn(recipeList);
+            when(recipeNameIndex.search(eq(requestDto.getKeyword()), anyInt())).thenReturn(hitList);
 
             AutoCompleteResponseDto result = recipeService.getAutoComplete(requestDto);
 
-            verify(recipeRepository, times(1)).findAllByRCP_NM(any());
+            verify(recipeNameIndex, times(1)).search(any(), anyInt());
+            verifyNoInteractions(recipeRepository);
             assertThat(result.getRecipes().get(0).getRecipe_name()).contains(requestDto.getKeyword());
             assertThat(result.isEmpty()).isFalse();
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Bookmark")
+    class Bookmark {
+
+        @BeforeEach
+        void login() {
+            SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("1,user", null));
+        }
+
+        @AfterEach
+        void logout() {
+            SecurityContextHolder.clearContext();
+        }
+
+        private RecipeSummaryDto bookmark(long id) {
+            return new RecipeSummaryDto(id, "user", id, "레시피" + id, "두부", null, "끓이기", "반찬", 100L);
+        }
+
+        @Test
+        @DisplayName("size+1개를 조회해서 다음 페이지 여부만 판단")
+        void getBookmark_HasNext() {
+            when(bookmarkStore.findRecipeIds(1L)).thenReturn(Set.of(1L, 2L, 3L));
+            when(recipeRepository.findBookmarkSummaries(1L, 0L, 3)).thenReturn(List.of(bookmark(1L), bookmark(2L), bookmark(3L)));
+
+            RecipeBookmarkResponseDto result = recipeService.getBookmark(PageRequest.of(0, 2), null);
+
+            assertThat(result.getRecipes()).extracting(RecipeBasicDto::getId).containsExactly(1L, 2L);
+            assertThat(result.isHas_next()).isTrue();
+            verify(bookmarkStore, never()).findUnflushedRecipeIds(any(), any());
+        }
+
+        @Test
+        @DisplayName("DB 반영 전 해제한 북마크는 빼고, 새 북마크는 마지막 페이지 뒤에 붙인다")
+        void getBookmark_RedisState() {
+            when(bookmarkStore.findRecipeIds(1L)).thenReturn(Set.of(2L, 5L));
+            when(recipeRepository.findBookmarkSummaries(1L, 0L, 3)).thenReturn(List.of(bookmark(1L), bookmark(2L)));
+            when(bookmarkStore.findUnflushedRecipeIds(1L, Set.of(2L, 5L))).thenReturn(List.of(5L));
+            when(recipeRepository.findSummariesByIdIn(List.of(5L))).thenReturn(List.of(new RecipeSummaryDto(5L, "레시피5", "두부", null, "끓이기", "반찬", 100L)));
+
+            RecipeBookmarkResponseDto result = recipeService.getBookmark(PageRequest.of(0, 2), null);
+
+            assertThat(result.getRecipes()).extracting(RecipeBasicDto::getId).containsExactly(2L, 5L);
+            assertThat(result.getRecipes()).allMatch(RecipeBasicDto::isLiked);
+            assertThat(result.getUser_name()).isEqualTo("user");
+            assertThat(result.isHas_next()).isFalse();
+        }
+
+        @Test
+        @DisplayName("첫 페이지가 아니면 비어 있어도 빈 목록")
+        void getBookmark_EmptyLastPage() {
+            when(recipeRepository.findBookmarkSummaries(1L, 2L, 3)).thenReturn(new ArrayList<>());
+
+            RecipeBookmarkResponseDto result = recipeService.getBookmark(PageRequest.of(1, 2), null);
+
+            assertThat(result.getRecipes()).isEmpty();
+            assertThat(result.isHas_next()).isFalse();
+        }
+
+        @Test
+        @DisplayName("북마크가 하나도 없을 때")
+        void getBookmark_NoBookmarkFail() {
+            when(recipeRepository.findBookmarkSummaries(1L, 0L, 3)).thenReturn(new ArrayList<>());
+
+            Exception exception = assertThrows(IllegalArgumentException.class, () -> {
+                recipeService.getBookmark(PageRequest.of(0, 2), null);
+            });
+
+            assertEquals("사용자가 북마크한 레시피가 없습니다.", exception.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("RecipeList")
+    class RecipeList {
+
+        @BeforeEach
+        void login() {
+            SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("1,user", null));
+        }
+
+        @AfterEach
+        void logout() {
+            SecurityContextHolder.clearContext();
+        }
+
+        @Test
+        @DisplayName("목록의 북마크 여부는 회원 조회 없이 토큰의 회원 id 로 확인")
+        void getTrendingRecipe_LikedWithoutMemberLookup() {
+            when(recipePopularity.findTopRecipeIds(10)).thenReturn(List.of(2L, 1L));
+            when(recipeRepository.findSummariesByIdIn(List.of(2L, 1L))).thenReturn(List.of(
+                    new RecipeSummaryDto(1L, "레시피1", "두부", null, "끓이기", "반찬", 100L),
+                    new RecipeSummaryDto(2L, "레시피2", "두부", null, "끓이기", "반찬", 100L)));
+            when(likedRecipeResolver.findLikedRecipeIds(1L, List.of(2L, 1L))).thenReturn(Set.of(1L));
+
+            RecipeResponseDto result = recipeService.getTrendingRecipe(10);
+
+            assertThat(result.getRecipes()).extracting(RecipeBasicDto::getId, RecipeBasicDto::isLiked)
+                    .containsExactly(tuple(2L, false), tuple(1L, true));
+            verifyNoInteractions(memberRepository);
+        }
+    }
+}